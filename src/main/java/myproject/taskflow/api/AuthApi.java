@@ -2,6 +2,8 @@ package myproject.taskflow.api;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import jakarta.servlet.http.HttpServletRequest;
+import myproject.taskflow.config.security.LoginRateLimiter;
 import myproject.taskflow.dto.request.LoginRequest;
 import myproject.taskflow.dto.request.RegisterRequest;
 import myproject.taskflow.dto.response.AuthResponse;
@@ -17,10 +19,11 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/api/auth")
 public class AuthApi {
     private final AuthService authService;
+    private final LoginRateLimiter loginRateLimiter;
 
-    public AuthApi(AuthService authService) {
+    public AuthApi(AuthService authService, LoginRateLimiter loginRateLimiter) {
         this.authService = authService;
-
+        this.loginRateLimiter = loginRateLimiter;
     }
 
     @Operation(summary = "Register new user", description = "Registers a new user with provided details")
@@ -31,7 +34,9 @@ public class AuthApi {
 
     @Operation(summary = "User login", description = "Authenticates user and returns JWT tokens")
     @PostMapping("/login")
-    public AuthResponse login(@io.swagger.v3.oas.annotations.parameters.RequestBody(description = "Login credentials", required = true) @RequestBody LoginRequest loginRequest) {
+    public AuthResponse login(@io.swagger.v3.oas.annotations.parameters.RequestBody(description = "Login credentials", required = true) @RequestBody LoginRequest loginRequest,
+                              HttpServletRequest request) {
+        loginRateLimiter.acquire(loginRequest.getEmail(), request.getRemoteAddr());
         return authService.login(loginRequest);
     }
 
@@ -0,0 +1,28 @@
+package myproject.taskflow.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import myproject.taskflow.config.jwt.JwtKeyRing;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.Map;
+
+@RestController
+public class JwksApi {
+    private final JwtKeyRing keyRing;
+
+    public JwksApi(JwtKeyRing keyRing) {
+        this.keyRing = keyRing;
+    }
+
+    @GetMapping("/.well-known/jwks.json")
+    @Operation(summary = "JSON Web Key Set", description = "Public keys for verifying ES256 access tokens locally. Empty when tokens are HMAC-signed.")
+    public ResponseEntity<Map<String, Object>> getJwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic())
+                .body(keyRing.getJwks());
+    }
+}
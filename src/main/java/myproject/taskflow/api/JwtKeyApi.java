@@ -0,0 +1,44 @@
+package myproject.taskflow.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import myproject.taskflow.config.jwt.JwtKeyRing;
+import myproject.taskflow.dto.request.KeyRotationRequest;
+import myproject.taskflow.dto.response.JwtKeyResponse;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/jwt/keys")
+@PreAuthorize("hasRole('ADMIN')")
+public class JwtKeyApi {
+    private final JwtKeyRing keyRing;
+
+    public JwtKeyApi(JwtKeyRing keyRing) {
+        this.keyRing = keyRing;
+    }
+
+    @GetMapping
+    @Operation(summary = "List signing keys", description = "Returns the signing keys that still verify tokens, with sign/verify counts per key.")
+    public List<JwtKeyResponse> getKeys() {
+        return keyRing.getKeys().stream().map(this::toResponse).toList();
+    }
+
+    @PostMapping("/rotate")
+    @Operation(summary = "Rotate signing key", description = "Makes a new key active for signing (generated when no secret is given). Older keys keep verifying until their tokens expire. Keys live in memory of this instance only, so rotate here on single-node deployments.")
+    public JwtKeyResponse rotate(@RequestBody KeyRotationRequest request) {
+        return toResponse(keyRing.rotate(request.getKid(), request.getSecret()));
+    }
+
+    private JwtKeyResponse toResponse(JwtKeyRing.SigningKey key) {
+        return new JwtKeyResponse(
+                key.getKid(),
+                key == keyRing.getActiveKey(),
+                key.getCreatedAt(),
+                key.getRetiredAt(),
+                key.getSignedCount(),
+                key.getVerifiedCount()
+        );
+    }
+}
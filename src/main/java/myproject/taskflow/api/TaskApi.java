@@ -1,27 +1,66 @@
 package myproject.taskflow.api;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import myproject.taskflow.dto.request.BulkReassignRequest;
+import myproject.taskflow.dto.request.BulkStatusRequest;
 import myproject.taskflow.dto.request.TaskFilter;
 import myproject.taskflow.dto.request.TaskRequest;
 import myproject.taskflow.dto.request.TaskUpdateRequest;
+import myproject.taskflow.dto.response.BulkUpdateResponse;
 import myproject.taskflow.dto.response.SimpleResponse;
+import myproject.taskflow.dto.response.TaskCursorPage;
+import myproject.taskflow.dto.response.TaskImportResponse;
+import myproject.taskflow.dto.response.TaskInboxResponse;
 import myproject.taskflow.dto.response.TaskResponse;
+import myproject.taskflow.dto.response.TaskStatisticsResponse;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import myproject.taskflow.enums.TaskDataFormat;
+import myproject.taskflow.enums.TaskField;
+import myproject.taskflow.enums.TaskPageMode;
 import myproject.taskflow.enums.TaskStatus;
+import myproject.taskflow.service.TaskExportService;
+import myproject.taskflow.service.TaskImportService;
+import myproject.taskflow.service.TaskInboxService;
 import myproject.taskflow.service.TaskService;
+import myproject.taskflow.service.TaskStatisticsService;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Sort;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/tasks")
 public class TaskApi {
     private final TaskService taskService;
+    private final TaskImportService taskImportService;
+    private final TaskExportService taskExportService;
+    private final TaskStatisticsService taskStatisticsService;
+    private final TaskInboxService taskInboxService;
 
-    public TaskApi(TaskService taskService) {
+    public TaskApi(TaskService taskService, TaskImportService taskImportService, TaskExportService taskExportService,
+                   TaskStatisticsService taskStatisticsService, TaskInboxService taskInboxService) {
         this.taskService = taskService;
+        this.taskImportService = taskImportService;
+        this.taskExportService = taskExportService;
+        this.taskStatisticsService = taskStatisticsService;
+        this.taskInboxService = taskInboxService;
     }
 
     @PostMapping
@@ -30,18 +69,74 @@ public class TaskApi {
         return taskService.createTask(taskRequest);
     }
 
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "text/csv"})
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    @Operation(summary = "Bulk import tasks", description = "Streams tasks as NDJSON (one JSON object per line) or CSV with a header row. Rows are inserted in batches; invalid rows are skipped and reported by line number.")
+    public TaskImportResponse importTasks(HttpServletRequest request) throws IOException {
+        TaskDataFormat format = MediaType.parseMediaType(request.getContentType()).isCompatibleWith(MediaType.valueOf("text/csv"))
+                ? TaskDataFormat.CSV
+                : TaskDataFormat.NDJSON;
+        return taskImportService.importTasks(request.getInputStream(), format);
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Export filtered tasks", description = "Streams every task matching the same filters as /tasks/filter as NDJSON or CSV, ordered by id. Rows are written while they are read, so exports of any size need no paging.")
+    public void exportTasks(
+            @Parameter(description = "Filter criteria for tasks") @ModelAttribute TaskFilter filter,
+            @Parameter(description = "NDJSON (one JSON object per line) or CSV with a header row") @RequestParam(defaultValue = "NDJSON") TaskDataFormat format,
+            HttpServletResponse response
+    ) throws IOException {
+        response.setContentType(format == TaskDataFormat.CSV ? "text/csv" : "application/x-ndjson");
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks." + format.name().toLowerCase() + "\"");
+        taskExportService.exportTasks(filter, format, response.getOutputStream());
+    }
+
+    @GetMapping("/stats")
+    @Operation(summary = "Task counts for dashboards", description = "Tasks per status, and open tasks (not COMPLETED or CANCELLED) per priority, team and assignee. Served from counters kept up to date by task writes and recounted periodically, so reads do not scan the tasks table.")
+    public TaskStatisticsResponse getStatistics() {
+        return taskStatisticsService.getStatistics();
+    }
+
+    @GetMapping("/inbox")
+    @Operation(summary = "My open tasks", description = "Open tasks (not COMPLETED or CANCELLED) assigned to the current user, earliest deadline first, tasks without deadline last. Read from a per-user inbox that task writes keep up to date.")
+    public List<TaskInboxResponse> getInbox(@RequestParam(defaultValue = "20") int limit) {
+        return taskInboxService.getInbox(limit);
+    }
+
     @GetMapping("/tasks/filter")
-    @Operation(summary = "Get filtered tasks with pagination and sorting", description = "Retrieves a paginated list of tasks filtered by optional criteria such as status, priority, category, creator, assignee, and team.")
-    public Page<TaskResponse> getTasksByFilter(
+    @Operation(summary = "Get filtered tasks with pagination and sorting", description = "Retrieves a paginated list of tasks filtered by optional criteria such as status, priority, category, creator, assignee, and team. category matches a category exactly and categoryPrefix by prefix (both case-insensitive and index-backed); categoryContains searches for a substring and scans all tasks, so it is considerably slower.")
+    public MappingJacksonValue getTasksByFilter(
             @Parameter(description = "Filter criteria for tasks") @ModelAttribute TaskFilter filter,
             @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Number of tasks per page") @RequestParam(defaultValue = "10") int size,
             @Parameter(description = "Field to sort by") @RequestParam(defaultValue = "id") String sortBy,
-            @Parameter(description = "Sort direction (asc or desc)") @RequestParam(defaultValue = "asc") String sortDir
+            @Parameter(description = "Sort direction (asc or desc)") @RequestParam(defaultValue = "asc") String sortDir,
+            @Parameter(description = "PAGE counts all matches, SLICE only reports whether a next page exists, ESTIMATE returns an approximate total") @RequestParam(defaultValue = "PAGE") TaskPageMode mode,
+            @Parameter(description = "Comma separated task properties to return, e.g. id,title,status; only these columns are read") @RequestParam(required = false) List<String> fields
     ) {
         Sort sort = sortDir.equalsIgnoreCase("asc") ? Sort.by(sortBy).ascending() : Sort.by(sortBy).descending();
         Pageable pageable = PageRequest.of(page, size, sort);
-        return taskService.getTasks(filter, pageable);
+        if (fields == null || fields.isEmpty()) {
+            return new MappingJacksonValue(taskService.getTasks(filter, pageable, mode));
+        }
+        Set<TaskField> requested = toTaskFields(fields);
+        MappingJacksonValue body = new MappingJacksonValue(taskService.getTasks(filter, pageable, mode, requested));
+        body.setFilters(new SimpleFilterProvider().addFilter(TaskResponse.FIELDS_FILTER, SimpleBeanPropertyFilter.filterOutAllExcept(
+                requested.stream().map(TaskField::getProperty).collect(Collectors.toSet()))));
+        return body;
+    }
+
+    @GetMapping("/tasks/filter/cursor")
+    @Operation(summary = "Get filtered tasks with cursor pagination", description = "Same filters as /tasks/filter, but pages are fetched by seeking past the last returned row instead of OFFSET, and no total count is computed. Pass nextCursor from the previous response to get the following page; the cursor keeps the original sort.")
+    public TaskCursorPage getTasksByCursor(
+            @Parameter(description = "Filter criteria for tasks") @ModelAttribute TaskFilter filter,
+            @Parameter(description = "Continuation token from the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Number of tasks per page") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Field to sort by: id, priority, title, status or createdAt") @RequestParam(defaultValue = "id") String sortBy,
+            @Parameter(description = "Sort direction (asc or desc)") @RequestParam(defaultValue = "asc") String sortDir
+    ) {
+        return taskService.getTasksAfter(filter, cursor, size, sortBy, sortDir);
     }
 
     @GetMapping("/{id}")
@@ -83,4 +178,28 @@ public class TaskApi {
         return taskService.assignTaskToAnotherPerson(taskId, userId);
     }
 
+    @PatchMapping("/bulk/status")
+    @Operation(summary = "Change status of many tasks", description = "Sets the status for the given task IDs or for all tasks matching a filter. Tasks the caller may not manage are skipped.")
+    public BulkUpdateResponse changeStatusBulk(@RequestBody BulkStatusRequest request) {
+        return taskService.changeTaskStatusBulk(request);
+    }
+
+    @PatchMapping("/bulk/reassign")
+    @Operation(summary = "Reassign all tasks of a user", description = "Moves every task assigned to one user to another user. Tasks the caller may not manage are skipped.")
+    public BulkUpdateResponse reassignTasks(@RequestBody BulkReassignRequest request) {
+        return taskService.reassignTasks(request);
+    }
+
+
+    private static Set<TaskField> toTaskFields(List<String> fields) {
+        Set<TaskField> requested = EnumSet.noneOf(TaskField.class);
+        for (String name : fields) {
+            TaskField field = Arrays.stream(TaskField.values())
+                    .filter(candidate -> candidate.getProperty().equals(name.trim()))
+                    .findFirst()
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown field: " + name));
+            requested.add(field);
+        }
+        return requested;
+    }
 }
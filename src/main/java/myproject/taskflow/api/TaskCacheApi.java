@@ -0,0 +1,35 @@
+package myproject.taskflow.api;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.swagger.v3.oas.annotations.Operation;
+import myproject.taskflow.config.cache.TaskResponseCache;
+import myproject.taskflow.dto.response.SimpleResponse;
+import myproject.taskflow.dto.response.TaskCacheResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/cache/tasks")
+@PreAuthorize("hasRole('ADMIN')")
+public class TaskCacheApi {
+    private final TaskResponseCache taskResponseCache;
+
+    public TaskCacheApi(TaskResponseCache taskResponseCache) {
+        this.taskResponseCache = taskResponseCache;
+    }
+
+    @GetMapping
+    @Operation(summary = "Inspect the task cache", description = "Returns the number of cached tasks and hit/miss/eviction counts since startup.")
+    public TaskCacheResponse getStats() {
+        CacheStats stats = taskResponseCache.stats();
+        return new TaskCacheResponse(taskResponseCache.size(), stats.hitCount(), stats.missCount(), stats.hitRate(), stats.evictionCount());
+    }
+
+    @DeleteMapping
+    @Operation(summary = "Clear the task cache", description = "Drops every cached task; the next reads go to the database.")
+    public SimpleResponse clear() {
+        taskResponseCache.clear();
+        return new SimpleResponse("Task cache cleared", HttpStatus.OK);
+    }
+}
@@ -0,0 +1,139 @@
+package myproject.taskflow.config.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import myproject.taskflow.dto.request.TaskFilter;
+import myproject.taskflow.dto.response.TaskResponse;
+import myproject.taskflow.enums.TaskField;
+import myproject.taskflow.enums.TaskPageMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * First pages of task listings keyed by a normalized filter/page/sort signature plus the
+ * data versions the result depends on. A filter with teamId depends on that team's
+ * counter and on changes whose team is unknown; any other filter depends on every change.
+ * Writers only bump counters, so invalidation is O(1): outdated entries are never looked
+ * up again and age out through size and TTL eviction.
+ */
+@Component
+public class TaskFilterCache {
+    // bumped by every task change
+    private final AtomicLong anyChange = new AtomicLong();
+    // bumped by changes that may touch any team (bulk updates, imports)
+    private final AtomicLong unscopedChange = new AtomicLong();
+    private final Map<Long, AtomicLong> teamChanges = new ConcurrentHashMap<>();
+    private final Cache<String, Slice<TaskResponse>> results;
+    private final int maxPages;
+
+    public TaskFilterCache(@Value("${tasks.filter-cache.max-size:1000}") long maxSize,
+                           @Value("${tasks.filter-cache.ttl:PT30S}") Duration ttl,
+                           @Value("${tasks.filter-cache.max-pages:2}") int maxPages,
+                           MeterRegistry meterRegistry) {
+        this.results = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.maxPages = maxPages;
+        CaffeineCacheMetrics.monitor(meterRegistry, results, "tasks.filter.results");
+    }
+
+    public Slice<TaskResponse> get(TaskFilter filter, Pageable pageable, TaskPageMode mode, Set<TaskField> fields,
+                                   Supplier<Slice<TaskResponse>> loader) {
+        if (pageable.isUnpaged() || pageable.getPageNumber() >= maxPages) {
+            return loader.get();
+        }
+        return results.get(versions(filter.getTeamId()) + signature(filter, pageable, mode, fields), key -> loader.get());
+    }
+
+    /**
+     * A task of the given team (null: no team) was created or changed.
+     */
+    public void changed(Long teamId) {
+        bump(teamId);
+        afterCommit(() -> bump(teamId));
+    }
+
+    /**
+     * Tasks of unknown teams were changed.
+     */
+    public void changedAnywhere() {
+        bumpUnscoped();
+        afterCommit(this::bumpUnscoped);
+    }
+
+    private void bump(Long teamId) {
+        if (teamId != null) {
+            teamChanges.computeIfAbsent(teamId, id -> new AtomicLong()).incrementAndGet();
+        }
+        anyChange.incrementAndGet();
+    }
+
+    private void bumpUnscoped() {
+        unscopedChange.incrementAndGet();
+        anyChange.incrementAndGet();
+    }
+
+    private String versions(Long teamId) {
+        if (teamId == null) {
+            return "*" + anyChange.get() + "|";
+        }
+        AtomicLong team = teamChanges.get(teamId);
+        return "t" + teamId + ":" + (team != null ? team.get() : 0) + ":" + unscopedChange.get() + "|";
+    }
+
+    private static String signature(TaskFilter filter, Pageable pageable, TaskPageMode mode, Set<TaskField> fields) {
+        return String.join("|",
+                String.valueOf(filter.getStatus()),
+                String.valueOf(filter.getPriority()),
+                lower(filter.getCategory()),
+                lower(filter.getCategoryPrefix()),
+                lower(filter.getCategoryContains()),
+                String.valueOf(filter.getCreatedById()),
+                String.valueOf(filter.getAssignedToId()),
+                instant(filter.getDeadlineFrom()),
+                instant(filter.getDeadlineTo()),
+                instant(filter.getCreatedAtFrom()),
+                instant(filter.getCreatedAtTo()),
+                pageable.getPageNumber() + "x" + pageable.getPageSize(),
+                pageable.getSort().toString(),
+                String.valueOf(mode),
+                String.valueOf(fields));
+    }
+
+    private static String lower(String value) {
+        return value == null || value.isBlank() ? "null" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // the same instant written with different offsets is the same filter
+    private static String instant(OffsetDateTime value) {
+        return value == null ? "null" : value.toInstant().toString();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package myproject.taskflow.config.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import myproject.taskflow.dto.response.TaskResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * TaskResponse by task id for GET /api/tasks/{id}. Writers evict right away and again
+ * after their transaction commits, so a read racing the write cannot put the old row
+ * back for longer than the transaction lasts. The TTL bounds staleness for changes
+ * made outside TaskService (other instances, direct SQL).
+ */
+@Component
+public class TaskResponseCache {
+    private final Cache<Long, TaskResponse> tasks;
+
+    public TaskResponseCache(@Value("${tasks.cache.max-size:10000}") long maxSize,
+                             @Value("${tasks.cache.ttl:PT1M}") Duration ttl,
+                             MeterRegistry meterRegistry) {
+        this.tasks = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, tasks, "tasks.responses");
+    }
+
+    public TaskResponse get(Long id, Function<Long, TaskResponse> loader) {
+        return tasks.get(id, loader);
+    }
+
+    public void evict(Long id) {
+        tasks.invalidate(id);
+        afterCommit(() -> tasks.invalidate(id));
+    }
+
+    public void evictAll(Collection<Long> ids) {
+        tasks.invalidateAll(ids);
+        afterCommit(() -> tasks.invalidateAll(ids));
+    }
+
+    public void clear() {
+        tasks.invalidateAll();
+        afterCommit(tasks::invalidateAll);
+    }
+
+    public long size() {
+        return tasks.estimatedSize();
+    }
+
+    public CacheStats stats() {
+        return tasks.stats();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        }
+    }
+}
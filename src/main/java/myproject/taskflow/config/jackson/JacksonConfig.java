@@ -0,0 +1,18 @@
+package myproject.taskflow.config.jackson;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JacksonConfig {
+    /**
+     * DTOs marked with @JsonFilter are written in full unless the response supplies the
+     * filter itself (MappingJacksonValue), e.g. for a sparse fieldset.
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer propertyFilterDefaults() {
+        return builder -> builder.filters(new SimpleFilterProvider().setFailOnUnknownId(false));
+    }
+}
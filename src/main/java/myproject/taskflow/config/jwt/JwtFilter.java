@@ -6,7 +6,8 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.constraints.NotNull;
-import myproject.taskflow.entities.User;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
@@ -17,9 +18,11 @@ import java.io.IOException;
 @Component
 public class JwtFilter extends OncePerRequestFilter {
     private final JwtService jwtService;
+    private final RejectedTokenCache rejectedTokenCache;
 
-    public JwtFilter(JwtService jwtService) {
+    public JwtFilter(JwtService jwtService, RejectedTokenCache rejectedTokenCache) {
         this.jwtService = jwtService;
+        this.rejectedTokenCache = rejectedTokenCache;
     }
 
     @Override
@@ -29,18 +32,32 @@ public class JwtFilter extends OncePerRequestFilter {
         String header = request.getHeader("Authorization");
         if (header != null && header.startsWith("Bearer ")) {
             String token = header.substring(7);
+            RejectedTokenCache.Reason rejected = rejectedTokenCache.getIfRejected(token);
+            if (rejected != null) {
+                unauthorized(response, rejected);
+                return;
+            }
             try {
-                User user = jwtService.verifyToken(token);
-                if (user != null) {
+                JwtPrincipal principal = jwtService.verifyToken(token);
+                if (principal != null) {
                     SecurityContextHolder.getContext().setAuthentication(
-                            new UsernamePasswordAuthenticationToken(user.getUsername(), user.getPassword(), user.getAuthorities())
+                            new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities())
                     );
                 }
             }catch (JWTVerificationException exception){
-                throw new RuntimeException(exception);
+                unauthorized(response, rejectedTokenCache.reject(token, exception));
+                return;
             }
 
         }
         filterChain.doFilter(request, response);
     }
+
+    private void unauthorized(HttpServletResponse response, RejectedTokenCache.Reason reason) throws IOException {
+        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer error=\"invalid_token\"");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"message\":\"Invalid access token: " + reason.name().toLowerCase()
+                + "\",\"status\":\"UNAUTHORIZED\"}");
+    }
 }
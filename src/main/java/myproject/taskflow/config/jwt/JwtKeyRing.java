@@ -0,0 +1,253 @@
+package myproject.taskflow.config.jwt;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTCreator;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.security.KeyPair;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Signing keys indexed by the "kid" header. Each key keeps a pre-built {@link Algorithm}
+ * and {@link JWTVerifier}, so signing and verifying do not rebuild them per call.
+ * After {@link #rotate} the previous key stops signing but keeps verifying until
+ * every token it signed has expired.
+ * <p>
+ * In {@link Mode#ES256} tokens are signed with a P-256 private key and the public keys
+ * are published through {@link #getJwks()}, so other services can verify tokens locally.
+ * <p>
+ * The key set is held in memory only: a rotation is not seen by other instances and is
+ * lost on restart. Rotating at runtime therefore suits a single node; a multi-node
+ * deployment rotates by changing the configured key and restarting every node.
+ */
+@Component
+public class JwtKeyRing {
+    public enum Mode {
+        HS256,
+        ES256
+    }
+
+    private static final Logger log = LoggerFactory.getLogger(JwtKeyRing.class);
+
+    private final Map<String, SigningKey> keys = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final Mode mode;
+    private final String defaultKid;
+    private volatile SigningKey activeKey;
+    private volatile Map<String, Object> jwks;
+
+    @Autowired
+    public JwtKeyRing(@Value("${security.jwt.algorithm:HS256}") Mode mode,
+                      @Value("${security.secret.key}") String secretKey,
+                      @Value("${security.jwt.ec.private-key:}") String ecPrivateKey,
+                      @Value("${security.jwt.ec.public-key:}") String ecPublicKey,
+                      @Value("${security.jwt.kid:default}") String kid,
+                      MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.mode = mode;
+        this.defaultKid = kid;
+        if (mode == Mode.ES256) {
+            KeyPair keyPair;
+            if (ecPrivateKey.isBlank() || ecPublicKey.isBlank()) {
+                log.warn("ES256 is enabled but security.jwt.ec.private-key/public-key are not set: signing with a key pair "
+                        + "generated for this instance only. Tokens it issues are rejected by other instances and stop "
+                        + "verifying after a restart; configure the key pair for any deployment beyond a single dev node.");
+                keyPair = JwtKeys.generateEcKeyPair();
+            } else {
+                keyPair = JwtKeys.loadEcKeyPair(ecPrivateKey, ecPublicKey);
+            }
+            this.activeKey = register(kid, keyPair);
+        } else {
+            this.activeKey = register(kid, Algorithm.HMAC256(secretKey));
+        }
+    }
+
+    public JwtKeyRing(String secretKey, String kid, MeterRegistry meterRegistry) {
+        this(Mode.HS256, secretKey, "", "", kid, meterRegistry);
+    }
+
+    public String sign(JWTCreator.Builder builder) {
+        SigningKey key = activeKey;
+        String token = builder.withKeyId(key.getKid()).sign(key.getAlgorithm());
+        key.signed.increment();
+        return token;
+    }
+
+    /**
+     * Tokens without a "kid" header were issued before the keyring existed and are
+     * checked against the configured key.
+     */
+    public DecodedJWT verify(String token) {
+        DecodedJWT decodedJWT = JWT.decode(token);
+        String kid = decodedJWT.getKeyId() != null ? decodedJWT.getKeyId() : defaultKid;
+        SigningKey key = keys.get(kid);
+        if (key == null || key.isExpired(Instant.now())) {
+            throw new JWTVerificationException("Unknown signing key: " + kid);
+        }
+        DecodedJWT verified = key.getVerifier().verify(decodedJWT);
+        key.verified.increment();
+        return verified;
+    }
+
+    /**
+     * Without a secret a new key is generated: a random HMAC secret in HS256 mode,
+     * a fresh P-256 key pair in ES256 mode, where a secret is rejected.
+     */
+    public synchronized SigningKey rotate(String kid, String secret) {
+        if (kid == null || kid.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Key id is required");
+        }
+        if (keys.containsKey(kid)) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Key id already used: " + kid);
+        }
+        if (mode == Mode.ES256 && secret != null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "A secret cannot be used in ES256 mode");
+        }
+        SigningKey next;
+        if (mode == Mode.ES256) {
+            next = register(kid, JwtKeys.generateEcKeyPair());
+        } else {
+            next = register(kid, Algorithm.HMAC256(secret != null && !secret.isBlank() ? secret : JwtKeys.randomSecret()));
+        }
+        SigningKey previous = activeKey;
+        activeKey = next;
+        previous.retiredAt = Instant.now();
+        removeExpiredKeys();
+        return next;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * JSON Web Key Set of the public keys that still verify tokens. Rebuilt only when
+     * the key set changes; empty in HS256 mode.
+     */
+    public Map<String, Object> getJwks() {
+        removeExpiredKeys();
+        Map<String, Object> current = jwks;
+        if (current == null) {
+            current = Map.of("keys", keys.values().stream()
+                    .filter(key -> key.getPublicKey() != null)
+                    .map(key -> JwtKeys.toJwk(key.getKid(), key.getPublicKey()))
+                    .toList());
+            jwks = current;
+        }
+        return current;
+    }
+
+    public SigningKey getActiveKey() {
+        return activeKey;
+    }
+
+    public Collection<SigningKey> getKeys() {
+        removeExpiredKeys();
+        return List.copyOf(keys.values());
+    }
+
+    private SigningKey register(String kid, Algorithm algorithm) {
+        return register(new SigningKey(kid, algorithm, null, meterRegistry));
+    }
+
+    private SigningKey register(String kid, KeyPair keyPair) {
+        ECPublicKey publicKey = (ECPublicKey) keyPair.getPublic();
+        Algorithm algorithm = Algorithm.ECDSA256(publicKey, (ECPrivateKey) keyPair.getPrivate());
+        return register(new SigningKey(kid, algorithm, publicKey, meterRegistry));
+    }
+
+    private SigningKey register(SigningKey key) {
+        keys.put(key.getKid(), key);
+        jwks = null;
+        return key;
+    }
+
+    private void removeExpiredKeys() {
+        Instant now = Instant.now();
+        if (keys.values().removeIf(key -> key.isExpired(now))) {
+            jwks = null;
+        }
+    }
+
+    public static class SigningKey {
+        private final String kid;
+        private final Algorithm algorithm;
+        private final JWTVerifier verifier;
+        private final ECPublicKey publicKey;
+        private final Instant createdAt = Instant.now();
+        private volatile Instant retiredAt;
+        private final Counter signed;
+        private final Counter verified;
+
+        SigningKey(String kid, Algorithm algorithm, ECPublicKey publicKey, MeterRegistry meterRegistry) {
+            this.kid = kid;
+            this.algorithm = algorithm;
+            this.verifier = JWT.require(algorithm).build();
+            this.publicKey = publicKey;
+            this.signed = Counter.builder("taskflow.jwt.tokens")
+                    .description("Access tokens signed or verified per key")
+                    .tag("operation", "sign")
+                    .tag("kid", kid)
+                    .register(meterRegistry);
+            this.verified = Counter.builder("taskflow.jwt.tokens")
+                    .description("Access tokens signed or verified per key")
+                    .tag("operation", "verify")
+                    .tag("kid", kid)
+                    .register(meterRegistry);
+        }
+
+        boolean isExpired(Instant now) {
+            return retiredAt != null && retiredAt.plus(JwtService.ACCESS_TOKEN_TTL).isBefore(now);
+        }
+
+        public String getKid() {
+            return kid;
+        }
+
+        public Algorithm getAlgorithm() {
+            return algorithm;
+        }
+
+        public JWTVerifier getVerifier() {
+            return verifier;
+        }
+
+        public ECPublicKey getPublicKey() {
+            return publicKey;
+        }
+
+        public Instant getCreatedAt() {
+            return createdAt;
+        }
+
+        public Instant getRetiredAt() {
+            return retiredAt;
+        }
+
+        public long getSignedCount() {
+            return (long) signed.count();
+        }
+
+        public long getVerifiedCount() {
+            return (long) verified.count();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package myproject.taskflow.config.jwt;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.SecureRandom;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Key material helpers for {@link JwtKeyRing}: random HMAC secrets, P-256 key pairs
+ * (generated or loaded from PEM / base64 DER) and their JWK representation.
+ */
+final class JwtKeys {
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private JwtKeys() {
+    }
+
+    static String randomSecret() {
+        byte[] secret = new byte[32];
+        RANDOM.nextBytes(secret);
+        return Base64.getEncoder().encodeToString(secret);
+    }
+
+    static KeyPair generateEcKeyPair() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"), RANDOM);
+            return generator.generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot generate ES256 key pair", e);
+        }
+    }
+
+    static KeyPair loadEcKeyPair(String privateKey, String publicKey) {
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance("EC");
+            ECPrivateKey ecPrivateKey = (ECPrivateKey) keyFactory.generatePrivate(new PKCS8EncodedKeySpec(decode(privateKey)));
+            ECPublicKey ecPublicKey = (ECPublicKey) keyFactory.generatePublic(new X509EncodedKeySpec(decode(publicKey)));
+            return new KeyPair(ecPublicKey, ecPrivateKey);
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("Cannot load ES256 key pair", e);
+        }
+    }
+
+    static Map<String, Object> toJwk(String kid, ECPublicKey publicKey) {
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        jwk.put("kty", "EC");
+        jwk.put("crv", "P-256");
+        jwk.put("use", "sig");
+        jwk.put("alg", "ES256");
+        jwk.put("kid", kid);
+        jwk.put("x", coordinate(publicKey.getW().getAffineX()));
+        jwk.put("y", coordinate(publicKey.getW().getAffineY()));
+        return jwk;
+    }
+
+    private static byte[] decode(String key) {
+        String base64 = key.replaceAll("-----(BEGIN|END) [A-Z ]+-----", "").replaceAll("\\s", "");
+        return Base64.getDecoder().decode(base64);
+    }
+
+    /**
+     * JWK coordinates are fixed-size (32 bytes for P-256) unsigned big-endian values.
+     */
+    private static String coordinate(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        byte[] fixed = new byte[32];
+        if (bytes.length > 32) {
+            bytes = Arrays.copyOfRange(bytes, bytes.length - 32, bytes.length);
+        }
+        System.arraycopy(bytes, 0, fixed, 32 - bytes.length, bytes.length);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(fixed);
+    }
+}
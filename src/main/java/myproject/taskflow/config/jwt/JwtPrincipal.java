@@ -0,0 +1,57 @@
+package myproject.taskflow.config.jwt;
+
+import myproject.taskflow.entities.User;
+import myproject.taskflow.enums.Role;
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Authenticated principal built from access token claims (id, email, role),
+ * so an authenticated request does not need to load the {@link User} entity.
+ * {@link #getName()} returns the email, same as {@link User#getUsername()}.
+ */
+public class JwtPrincipal implements AuthenticatedPrincipal {
+    private final Long id;
+    private final String email;
+    private final Role role;
+
+    public JwtPrincipal(Long id, String email, Role role) {
+        this.id = id;
+        this.email = email;
+        this.role = role;
+    }
+
+    public static JwtPrincipal of(User user) {
+        return new JwtPrincipal(user.getId(), user.getEmail(), user.getRole());
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public Role getRole() {
+        return role;
+    }
+
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    @Override
+    public String toString() {
+        return email;
+    }
+}
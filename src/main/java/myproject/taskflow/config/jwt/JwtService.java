@@ -1,47 +1,71 @@
 package myproject.taskflow.config.jwt;
 
 import com.auth0.jwt.JWT;
-import com.auth0.jwt.JWTVerifier;
-import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.interfaces.DecodedJWT;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import myproject.taskflow.entities.User;
+import myproject.taskflow.enums.Role;
 import myproject.taskflow.repositories.jpa.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.stereotype.Component;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.ZonedDateTime;
 @Service
 public class JwtService {
-    @Value("${security.secret.key}")
-    private String secretKey;
+    public static final Duration ACCESS_TOKEN_TTL = Duration.ofMinutes(15);
+
+    @Value("${security.jwt.stateless:true}")
+    private boolean stateless;
 
     private final UserRepository userRepo;
+    private final JwtKeyRing keyRing;
+    private final PrincipalInvalidationCache invalidationCache;
+    private final Counter resolvedFromClaims;
+    private final Counter resolvedFromDatabase;
 
     @Autowired
-    public JwtService(UserRepository userRepo) {
+    public JwtService(UserRepository userRepo, JwtKeyRing keyRing, PrincipalInvalidationCache invalidationCache, MeterRegistry meterRegistry) {
         this.userRepo = userRepo;
+        this.keyRing = keyRing;
+        this.invalidationCache = invalidationCache;
+        this.resolvedFromClaims = Counter.builder("taskflow.jwt.principal.resolutions")
+                .description("Authenticated principals built from token claims, i.e. user lookups avoided")
+                .tag("source", "claims")
+                .register(meterRegistry);
+        this.resolvedFromDatabase = Counter.builder("taskflow.jwt.principal.resolutions")
+                .description("Authenticated principals that required a user lookup")
+                .tag("source", "database")
+                .register(meterRegistry);
     }
 
     public String generateToken(User user) {
-        return JWT.create()
+        return keyRing.sign(JWT.create()
                 .withClaim("id", user.getId())
                 .withClaim("email", user.getEmail())
                 .withClaim("role", user.getRole().name())
                 .withIssuedAt(ZonedDateTime.now().toInstant())
-                .withExpiresAt(ZonedDateTime.now().plusMinutes(15).toInstant())
-                .sign(Algorithm.HMAC256(secretKey));
+                .withExpiresAt(ZonedDateTime.now().plus(ACCESS_TOKEN_TTL).toInstant()));
     }
 
 
 
-    public User verifyToken(String token) {
-        Algorithm algorithm = Algorithm.HMAC256(secretKey);
-        JWTVerifier verifier = JWT.require(algorithm).build();
-        DecodedJWT decodedJWT = verifier.verify(token);
+    public JwtPrincipal verifyToken(String token) {
+        DecodedJWT decodedJWT = keyRing.verify(token);
+        Long id = decodedJWT.getClaim("id").asLong();
         String email = decodedJWT.getClaim("email").asString();
+        String role = decodedJWT.getClaim("role").asString();
+
+        if (stateless && id != null && role != null
+                && !invalidationCache.isStale(id, decodedJWT.getIssuedAtAsInstant())) {
+            resolvedFromClaims.increment();
+            return new JwtPrincipal(id, email, Role.valueOf(role));
+        }
 
-        return userRepo.findUserByEmail(email).orElseThrow(() -> new RuntimeException("User not found"));
+        resolvedFromDatabase.increment();
+        User user = userRepo.findUserByEmail(email).orElseThrow(() -> new UnknownPrincipalException(email));
+        return JwtPrincipal.of(user);
     }
 }
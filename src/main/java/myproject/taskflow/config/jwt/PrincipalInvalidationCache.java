@@ -0,0 +1,44 @@
+package myproject.taskflow.config.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * Remembers users that changed (profile update, deletion) while their access tokens
+ * may still be alive. Entries only need to outlive the access token lifetime, so the
+ * cache stays small and bounded; tokens issued before the change are re-checked
+ * against the database instead of trusting their claims.
+ */
+@Component
+public class PrincipalInvalidationCache {
+    private final Cache<Long, Instant> invalidatedUsers;
+
+    public PrincipalInvalidationCache(@Value("${security.jwt.invalidation-cache.max-size:10000}") long maxSize,
+                                      MeterRegistry meterRegistry) {
+        this.invalidatedUsers = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(JwtService.ACCESS_TOKEN_TTL)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, invalidatedUsers, "jwt.principal.invalidations");
+    }
+
+    public void invalidate(Long userId) {
+        invalidatedUsers.put(userId, Instant.now());
+    }
+
+    /**
+     * "iat" has second precision, so a token whose issue second is not strictly
+     * after the change is treated as stale.
+     */
+    public boolean isStale(Long userId, Instant issuedAt) {
+        Instant invalidatedAt = invalidatedUsers.getIfPresent(userId);
+        return invalidatedAt != null && (issuedAt == null || !issuedAt.isAfter(invalidatedAt));
+    }
+}
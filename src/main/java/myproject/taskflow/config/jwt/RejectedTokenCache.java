@@ -0,0 +1,94 @@
+package myproject.taskflow.config.jwt;
+
+import com.auth0.jwt.exceptions.JWTDecodeException;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.exceptions.SignatureVerificationException;
+import com.auth0.jwt.exceptions.TokenExpiredException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * Bounded cache of recently rejected access token fingerprints (SHA-256), so a client
+ * retrying a stale or garbage token is turned away without another signature check.
+ * A rejected token can never become valid, so entries only need to expire for memory.
+ */
+@Component
+public class RejectedTokenCache {
+    public enum Reason {
+        EXPIRED,
+        BAD_SIGNATURE,
+        MALFORMED,
+        UNKNOWN_USER,
+        OTHER
+    }
+
+    private final Cache<String, Reason> rejected;
+    private final MeterRegistry meterRegistry;
+
+    public RejectedTokenCache(@Value("${security.jwt.rejected-cache.max-size:10000}") long maxSize,
+                              MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.rejected = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(JwtService.ACCESS_TOKEN_TTL)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, rejected, "jwt.rejected.tokens");
+    }
+
+    /**
+     * @return the reason the token was rejected before, or null if it is not known
+     */
+    public Reason getIfRejected(String token) {
+        Reason reason = rejected.getIfPresent(fingerprint(token));
+        if (reason != null) {
+            count(reason, "cache");
+        }
+        return reason;
+    }
+
+    public Reason reject(String token, JWTVerificationException exception) {
+        Reason reason = classify(exception);
+        rejected.put(fingerprint(token), reason);
+        count(reason, "verify");
+        return reason;
+    }
+
+    private void count(Reason reason, String source) {
+        meterRegistry.counter("taskflow.jwt.rejected", "reason", reason.name().toLowerCase(), "source", source).increment();
+    }
+
+    private static Reason classify(JWTVerificationException exception) {
+        if (exception instanceof TokenExpiredException) {
+            return Reason.EXPIRED;
+        }
+        if (exception instanceof SignatureVerificationException) {
+            return Reason.BAD_SIGNATURE;
+        }
+        if (exception instanceof JWTDecodeException) {
+            return Reason.MALFORMED;
+        }
+        if (exception instanceof UnknownPrincipalException) {
+            return Reason.UNKNOWN_USER;
+        }
+        return Reason.OTHER;
+    }
+
+    private static String fingerprint(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package myproject.taskflow.config.jwt;
+
+import com.auth0.jwt.exceptions.JWTVerificationException;
+
+/**
+ * Thrown when a validly signed token names a user that no longer exists.
+ */
+public class UnknownPrincipalException extends JWTVerificationException {
+    public UnknownPrincipalException(String email) {
+        super("User not found: " + email);
+    }
+}
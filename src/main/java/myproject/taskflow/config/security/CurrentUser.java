@@ -0,0 +1,73 @@
+package myproject.taskflow.config.security;
+
+import myproject.taskflow.config.jwt.JwtPrincipal;
+import myproject.taskflow.entities.User;
+import myproject.taskflow.enums.Role;
+import myproject.taskflow.repositories.jpa.UserRepository;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * The authenticated user of the current request, resolved once and shared by all services.
+ * Token-authenticated requests are resolved from the {@link JwtPrincipal} claims; any other
+ * authentication (e.g. form login, tests) falls back to a single lookup by email.
+ */
+@Component
+@RequestScope
+public class CurrentUser {
+    private final UserRepository userRepository;
+
+    private Long id;
+    private String email;
+    private Set<Role> roles;
+
+    public CurrentUser(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    public Long getId() {
+        resolve();
+        return id;
+    }
+
+    public String getEmail() {
+        resolve();
+        return email;
+    }
+
+    public Set<Role> getRoles() {
+        resolve();
+        return roles;
+    }
+
+    public boolean hasRole(Role role) {
+        return getRoles().contains(role);
+    }
+
+    public boolean isManagerOrAdmin() {
+        return hasRole(Role.MANAGER) || hasRole(Role.ADMIN);
+    }
+
+    private void resolve() {
+        if (roles != null) {
+            return;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication.getPrincipal() instanceof JwtPrincipal principal) {
+            id = principal.getId();
+            email = principal.getEmail();
+            roles = EnumSet.of(principal.getRole());
+        } else {
+            User user = userRepository.findUserByEmail(authentication.getName())
+                    .orElseThrow(() -> new RuntimeException("User not found"));
+            id = user.getId();
+            email = user.getEmail();
+            roles = EnumSet.of(user.getRole());
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package myproject.taskflow.config.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Token buckets per account (email) and per client IP, checked before the user lookup
+ * and the BCrypt compare of a login attempt. Buckets live in a bounded cache and are
+ * dropped once idle long enough to have refilled, so memory stays flat during a
+ * credential-stuffing burst. Bucket updates are guarded by a fixed set of striped locks.
+ */
+@Component
+public class LoginRateLimiter {
+    private static final int STRIPES = 64;
+
+    private final Limit emailLimit;
+    private final Limit ipLimit;
+    private final Cache<String, Bucket> buckets;
+    private final ReentrantLock[] locks = new ReentrantLock[STRIPES];
+
+    public LoginRateLimiter(@Value("${security.login.rate-limit.email.capacity:5}") int emailCapacity,
+                            @Value("${security.login.rate-limit.email.refill-per-minute:5}") int emailRefillPerMinute,
+                            @Value("${security.login.rate-limit.ip.capacity:20}") int ipCapacity,
+                            @Value("${security.login.rate-limit.ip.refill-per-minute:20}") int ipRefillPerMinute,
+                            @Value("${security.login.rate-limit.max-keys:100000}") long maxKeys,
+                            MeterRegistry meterRegistry) {
+        this.emailLimit = new Limit("email", emailCapacity, emailRefillPerMinute, meterRegistry);
+        this.ipLimit = new Limit("ip", ipCapacity, ipRefillPerMinute, meterRegistry);
+        Duration idle = emailLimit.timeToFill().compareTo(ipLimit.timeToFill()) > 0 ? emailLimit.timeToFill() : ipLimit.timeToFill();
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(idle)
+                .build();
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Consumes one attempt for the client IP and for the account, failing with 429
+     * when either bucket is empty.
+     */
+    public void acquire(String email, String clientIp) {
+        if (clientIp != null && !tryConsume("ip:" + clientIp, ipLimit)) {
+            ipLimit.rejected.increment();
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "Too many login attempts, try again later");
+        }
+        if (email != null && !tryConsume("email:" + email.toLowerCase(Locale.ROOT), emailLimit)) {
+            emailLimit.rejected.increment();
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "Too many login attempts, try again later");
+        }
+    }
+
+    private boolean tryConsume(String key, Limit limit) {
+        ReentrantLock lock = locks[(key.hashCode() & 0x7fffffff) % STRIPES];
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            Bucket bucket = buckets.get(key, k -> new Bucket(limit.capacity, now));
+            bucket.refill(limit, now);
+            if (bucket.tokens < 1) {
+                return false;
+            }
+            bucket.tokens -= 1;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static final class Limit {
+        private final int capacity;
+        private final double tokensPerNano;
+        private final Counter rejected;
+
+        Limit(String key, int capacity, int refillPerMinute, MeterRegistry meterRegistry) {
+            this.capacity = capacity;
+            this.tokensPerNano = refillPerMinute / (double) Duration.ofMinutes(1).toNanos();
+            this.rejected = Counter.builder("taskflow.login.throttled")
+                    .description("Login attempts rejected by the rate limiter")
+                    .tag("key", key)
+                    .register(meterRegistry);
+        }
+
+        Duration timeToFill() {
+            return Duration.ofNanos((long) Math.ceil(capacity / tokensPerNano));
+        }
+    }
+
+    private static final class Bucket {
+        private double tokens;
+        private long lastRefill;
+
+        Bucket(double tokens, long lastRefill) {
+            this.tokens = tokens;
+            this.lastRefill = lastRefill;
+        }
+
+        void refill(Limit limit, long now) {
+            tokens = Math.min(limit.capacity, tokens + (now - lastRefill) * limit.tokensPerNano);
+            lastRefill = now;
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package myproject.taskflow.config.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import myproject.taskflow.config.jwt.JwtFilter;
 import myproject.taskflow.enums.Role;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationProvider;
@@ -23,10 +25,21 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
     private final UserDetailsService userDetailsService;
     private final JwtFilter jwtFilter;
+    private final MeterRegistry meterRegistry;
 
-    public SecurityConfig(UserDetailsService userDetailsService, JwtFilter jwtFilter) {
+    @Value("${security.password.bcrypt-strength:10}")
+    private int bcryptStrength;
+
+    @Value("${security.password.hashing.threads:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}")
+    private int hashingThreads;
+
+    @Value("${security.password.hashing.queue-capacity:64}")
+    private int hashingQueueCapacity;
+
+    public SecurityConfig(UserDetailsService userDetailsService, JwtFilter jwtFilter, MeterRegistry meterRegistry) {
         this.userDetailsService = userDetailsService;
         this.jwtFilter = jwtFilter;
+        this.meterRegistry = meterRegistry;
     }
 
 
@@ -37,6 +50,7 @@ public class SecurityConfig {
                 .authorizeHttpRequests(a -> a
                         .requestMatchers("/swagger-ui/index.html", "/swagger-ui/**", "/v3/api-docs/**").permitAll()
                         .requestMatchers("/api/auth/register", "/api/auth/login", "/api/auth/refresh").permitAll()  // Добавил /refresh
+                        .requestMatchers("/.well-known/jwks.json").permitAll()
                         .anyRequest().authenticated()
                 );
         http.addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class);
@@ -48,7 +62,8 @@ public class SecurityConfig {
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new OffloadingPasswordEncoder(new BCryptPasswordEncoder(bcryptStrength),
+                hashingThreads, hashingQueueCapacity, meterRegistry);
     }
 
     @Bean
@@ -0,0 +1,22 @@
+package myproject.taskflow.dto.request;
+
+public class BulkReassignRequest {
+    private Long fromUserId;
+    private Long toUserId;
+
+    public Long getFromUserId() {
+        return fromUserId;
+    }
+
+    public void setFromUserId(Long fromUserId) {
+        this.fromUserId = fromUserId;
+    }
+
+    public Long getToUserId() {
+        return toUserId;
+    }
+
+    public void setToUserId(Long toUserId) {
+        this.toUserId = toUserId;
+    }
+}
@@ -0,0 +1,35 @@
+package myproject.taskflow.dto.request;
+
+import myproject.taskflow.enums.TaskStatus;
+
+import java.util.List;
+
+public class BulkStatusRequest {
+    private TaskStatus status;
+    private List<Long> ids;
+    private TaskFilter filter;
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(TaskStatus status) {
+        this.status = status;
+    }
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public TaskFilter getFilter() {
+        return filter;
+    }
+
+    public void setFilter(TaskFilter filter) {
+        this.filter = filter;
+    }
+}
@@ -0,0 +1,22 @@
+package myproject.taskflow.dto.request;
+
+public class KeyRotationRequest {
+    private String kid;
+    private String secret;
+
+    public String getKid() {
+        return kid;
+    }
+
+    public void setKid(String kid) {
+        this.kid = kid;
+    }
+
+    public String getSecret() {
+        return secret;
+    }
+
+    public void setSecret(String secret) {
+        this.secret = secret;
+    }
+}
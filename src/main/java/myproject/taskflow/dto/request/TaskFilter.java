@@ -9,6 +9,8 @@ public class TaskFilter {
     private TaskStatus status;
     private Integer priority;
     private String category;
+    private String categoryPrefix;
+    private String categoryContains;
 
     private Long createdById;
     private Long assignedToId;
@@ -43,6 +45,22 @@ public class TaskFilter {
         this.category = category;
     }
 
+    public String getCategoryPrefix() {
+        return categoryPrefix;
+    }
+
+    public void setCategoryPrefix(String categoryPrefix) {
+        this.categoryPrefix = categoryPrefix;
+    }
+
+    public String getCategoryContains() {
+        return categoryContains;
+    }
+
+    public void setCategoryContains(String categoryContains) {
+        this.categoryContains = categoryContains;
+    }
+
     public Long getCreatedById() {
         return createdById;
     }
@@ -71,15 +89,31 @@ public class TaskFilter {
         return deadlineFrom;
     }
 
+    public void setDeadlineFrom(OffsetDateTime deadlineFrom) {
+        this.deadlineFrom = deadlineFrom;
+    }
+
     public OffsetDateTime getDeadlineTo() {
         return deadlineTo;
     }
 
+    public void setDeadlineTo(OffsetDateTime deadlineTo) {
+        this.deadlineTo = deadlineTo;
+    }
+
     public OffsetDateTime getCreatedAtFrom() {
         return createdAtFrom;
     }
 
+    public void setCreatedAtFrom(OffsetDateTime createdAtFrom) {
+        this.createdAtFrom = createdAtFrom;
+    }
+
     public OffsetDateTime getCreatedAtTo() {
         return createdAtTo;
     }
+
+    public void setCreatedAtTo(OffsetDateTime createdAtTo) {
+        this.createdAtTo = createdAtTo;
+    }
 }
@@ -0,0 +1,87 @@
+package myproject.taskflow.dto.request;
+
+import java.time.LocalDateTime;
+
+public class TaskImportRow {
+    private String title;
+    private String description;
+    private String status;
+    private Integer priority;
+    private String category;
+    private LocalDateTime deadline;
+    private Long assigned_to;
+    private Long created_by;
+    private Long team_id;
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public Integer getPriority() {
+        return priority;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public LocalDateTime getDeadline() {
+        return deadline;
+    }
+
+    public Long getAssigned_to() {
+        return assigned_to;
+    }
+
+    public Long getCreated_by() {
+        return created_by;
+    }
+
+    public Long getTeam_id() {
+        return team_id;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public void setPriority(Integer priority) {
+        this.priority = priority;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public void setDeadline(LocalDateTime deadline) {
+        this.deadline = deadline;
+    }
+
+    public void setAssigned_to(Long assigned_to) {
+        this.assigned_to = assigned_to;
+    }
+
+    public void setCreated_by(Long created_by) {
+        this.created_by = created_by;
+    }
+
+    public void setTeam_id(Long team_id) {
+        this.team_id = team_id;
+    }
+}
@@ -0,0 +1,19 @@
+package myproject.taskflow.dto.response;
+
+public class BulkUpdateResponse {
+    private long updated;
+    private long skipped;
+
+    public BulkUpdateResponse(long updated, long skipped) {
+        this.updated = updated;
+        this.skipped = skipped;
+    }
+
+    public long getUpdated() {
+        return updated;
+    }
+
+    public long getSkipped() {
+        return skipped;
+    }
+}
@@ -0,0 +1,19 @@
+package myproject.taskflow.dto.response;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * A page whose totalElements (and totalPages) are approximate.
+ */
+public class EstimatedPage<T> extends PageImpl<T> {
+    public EstimatedPage(List<T> content, Pageable pageable, long estimatedTotal) {
+        super(content, pageable, estimatedTotal);
+    }
+
+    public boolean isTotalEstimated() {
+        return true;
+    }
+}
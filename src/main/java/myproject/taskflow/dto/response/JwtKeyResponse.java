@@ -0,0 +1,45 @@
+package myproject.taskflow.dto.response;
+
+import java.time.Instant;
+
+public class JwtKeyResponse {
+    private String kid;
+    private boolean active;
+    private Instant createdAt;
+    private Instant retiredAt;
+    private long signedCount;
+    private long verifiedCount;
+
+    public JwtKeyResponse(String kid, boolean active, Instant createdAt, Instant retiredAt, long signedCount, long verifiedCount) {
+        this.kid = kid;
+        this.active = active;
+        this.createdAt = createdAt;
+        this.retiredAt = retiredAt;
+        this.signedCount = signedCount;
+        this.verifiedCount = verifiedCount;
+    }
+
+    public String getKid() {
+        return kid;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getRetiredAt() {
+        return retiredAt;
+    }
+
+    public long getSignedCount() {
+        return signedCount;
+    }
+
+    public long getVerifiedCount() {
+        return verifiedCount;
+    }
+}
@@ -0,0 +1,37 @@
+package myproject.taskflow.dto.response;
+
+public class TaskCacheResponse {
+    private long size;
+    private long hitCount;
+    private long missCount;
+    private double hitRate;
+    private long evictionCount;
+
+    public TaskCacheResponse(long size, long hitCount, long missCount, double hitRate, long evictionCount) {
+        this.size = size;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.hitRate = hitRate;
+        this.evictionCount = evictionCount;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    public double getHitRate() {
+        return hitRate;
+    }
+
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+}
@@ -0,0 +1,21 @@
+package myproject.taskflow.dto.response;
+
+import java.util.List;
+
+public class TaskCursorPage {
+    private List<TaskResponse> content;
+    private String nextCursor;
+
+    public TaskCursorPage(List<TaskResponse> content, String nextCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<TaskResponse> getContent() {
+        return content;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+}
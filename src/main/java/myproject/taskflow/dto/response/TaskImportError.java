@@ -0,0 +1,19 @@
+package myproject.taskflow.dto.response;
+
+public class TaskImportError {
+    private long line;
+    private String message;
+
+    public TaskImportError(long line, String message) {
+        this.line = line;
+        this.message = message;
+    }
+
+    public long getLine() {
+        return line;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
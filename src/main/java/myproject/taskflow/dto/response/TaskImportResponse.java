@@ -0,0 +1,39 @@
+package myproject.taskflow.dto.response;
+
+import java.util.List;
+
+public class TaskImportResponse {
+    private long processed;
+    private long imported;
+    private long failed;
+    private List<TaskImportError> errors;
+    private boolean errorsTruncated;
+
+    public TaskImportResponse(long processed, long imported, long failed, List<TaskImportError> errors, boolean errorsTruncated) {
+        this.processed = processed;
+        this.imported = imported;
+        this.failed = failed;
+        this.errors = errors;
+        this.errorsTruncated = errorsTruncated;
+    }
+
+    public long getProcessed() {
+        return processed;
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public List<TaskImportError> getErrors() {
+        return errors;
+    }
+
+    public boolean isErrorsTruncated() {
+        return errorsTruncated;
+    }
+}
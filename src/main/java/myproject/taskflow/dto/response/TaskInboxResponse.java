@@ -0,0 +1,41 @@
+package myproject.taskflow.dto.response;
+
+import myproject.taskflow.enums.TaskStatus;
+
+import java.time.LocalDateTime;
+
+public class TaskInboxResponse {
+    private Long id;
+    private String title;
+    private TaskStatus status;
+    private Integer priority;
+    private LocalDateTime deadline;
+
+    public TaskInboxResponse(Long id, String title, TaskStatus status, Integer priority, LocalDateTime deadline) {
+        this.id = id;
+        this.title = title;
+        this.status = status;
+        this.priority = priority;
+        this.deadline = deadline;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public Integer getPriority() {
+        return priority;
+    }
+
+    public LocalDateTime getDeadline() {
+        return deadline;
+    }
+}
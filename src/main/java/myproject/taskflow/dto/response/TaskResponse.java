@@ -1,10 +1,15 @@
 package myproject.taskflow.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import myproject.taskflow.enums.TaskStatus;
 
 import java.time.LocalDateTime;
 
+@JsonFilter(TaskResponse.FIELDS_FILTER)
 public class TaskResponse {
+    // narrows the serialized properties to the fields= of a listing request
+    public static final String FIELDS_FILTER = "taskFields";
+
     private Long id;
     private String title;
     private String description;
@@ -28,6 +33,11 @@ public class TaskResponse {
         this.created_at = created_at;
     }
 
+    public TaskResponse(Long id, String title, String description, TaskStatus status, Integer priority, String category, LocalDateTime deadline, Long assigned_to, Long team_id, LocalDateTime created_at) {
+        this(id, title, description, status, priority, category, deadline, assigned_to, created_at);
+        this.team_id = team_id;
+    }
+
     public Long getId() {
         return id;
     }
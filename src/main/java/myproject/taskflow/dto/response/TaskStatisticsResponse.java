@@ -0,0 +1,43 @@
+package myproject.taskflow.dto.response;
+
+import myproject.taskflow.enums.TaskStatus;
+
+import java.time.Instant;
+import java.util.Map;
+
+public class TaskStatisticsResponse {
+    private Map<TaskStatus, Long> byStatus;
+    private Map<Integer, Long> openByPriority;
+    private Map<Long, Long> openByTeam;
+    private Map<Long, Long> openByAssignee;
+    private Instant reconciledAt;
+
+    public TaskStatisticsResponse(Map<TaskStatus, Long> byStatus, Map<Integer, Long> openByPriority, Map<Long, Long> openByTeam,
+                                  Map<Long, Long> openByAssignee, Instant reconciledAt) {
+        this.byStatus = byStatus;
+        this.openByPriority = openByPriority;
+        this.openByTeam = openByTeam;
+        this.openByAssignee = openByAssignee;
+        this.reconciledAt = reconciledAt;
+    }
+
+    public Map<TaskStatus, Long> getByStatus() {
+        return byStatus;
+    }
+
+    public Map<Integer, Long> getOpenByPriority() {
+        return openByPriority;
+    }
+
+    public Map<Long, Long> getOpenByTeam() {
+        return openByTeam;
+    }
+
+    public Map<Long, Long> getOpenByAssignee() {
+        return openByAssignee;
+    }
+
+    public Instant getReconciledAt() {
+        return reconciledAt;
+    }
+}
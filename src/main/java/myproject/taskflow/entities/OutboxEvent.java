@@ -0,0 +1,107 @@
+package myproject.taskflow.entities;
+
+import jakarta.persistence.*;
+import myproject.taskflow.enums.DomainEventType;
+import myproject.taskflow.enums.EventAggregate;
+
+import java.time.LocalDateTime;
+
+@Entity
+// events of one aggregate are delivered in id order; the index finds an earlier pending event of the same aggregate
+@Table(name = "outbox_events", indexes = {
+        @Index(name = "ix_outbox_events_aggregate", columnList = "aggregate_type, aggregate_id, id")
+})
+public class OutboxEvent {
+    // one id per insert, taken inside the writing transaction: events written under the task's row lock get ids in commit order
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_gen")
+    @SequenceGenerator(sequenceName = "outbox_seq", name = "outbox_gen", allocationSize = 1)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "aggregate_type", nullable = false, length = 20)
+    private EventAggregate aggregateType;
+
+    // null for events that span many tasks
+    @Column(name = "aggregate_id")
+    private Long aggregateId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 40)
+    private DomainEventType eventType;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String payload;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime availableAt;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(length = 500)
+    private String lastError;
+
+    public Long getId() {
+        return id;
+    }
+
+    public EventAggregate getAggregateType() {
+        return aggregateType;
+    }
+
+    public void setAggregateType(EventAggregate aggregateType) {
+        this.aggregateType = aggregateType;
+    }
+
+    public Long getAggregateId() {
+        return aggregateId;
+    }
+
+    public void setAggregateId(Long aggregateId) {
+        this.aggregateId = aggregateId;
+    }
+
+    public DomainEventType getEventType() {
+        return eventType;
+    }
+
+    public void setEventType(DomainEventType eventType) {
+        this.eventType = eventType;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public void setPayload(String payload) {
+        this.payload = payload;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getAvailableAt() {
+        return availableAt;
+    }
+
+    public void setAvailableAt(LocalDateTime availableAt) {
+        this.availableAt = availableAt;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+}
@@ -5,19 +5,25 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "refresh_tokens")
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "ux_refresh_tokens_token_hash", columnList = "token_hash", unique = true),
+        // the cleanup predicate "expiry_date < now or is_revoked" is served by combining these two
+        @Index(name = "ix_refresh_tokens_expiry_date", columnList = "expiry_date"),
+        @Index(name = "ix_refresh_tokens_is_revoked", columnList = "is_revoked")
+})
 public class RefreshToken {
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "refreshT_gen")
-    @SequenceGenerator(sequenceName = "refreshT_seq", name = "refreshT_gen",allocationSize = 1)
+    @SequenceGenerator(sequenceName = "refreshT_seq", name = "refreshT_gen",allocationSize = 50)
     private Long id;
 
     @OneToOne
     @JoinColumn(nullable = false)
     private User user;
 
-    @Column(nullable = false, length = 255)
-    private String token;
+    // SHA-256 of the issued token, hex encoded; the raw token is never stored
+    @Column(name = "token_hash", nullable = false, length = 64)
+    private String tokenHash;
 
     @Column(nullable = false)
     private LocalDateTime expiryDate;
@@ -25,9 +31,9 @@ public class RefreshToken {
     @Column(nullable = false)
     private Boolean isRevoked = false;
 
-    public RefreshToken(User user, String token, LocalDateTime expiryDate) {
+    public RefreshToken(User user, String tokenHash, LocalDateTime expiryDate) {
         this.user = user;
-        this.token = token;
+        this.tokenHash = tokenHash;
         this.expiryDate = expiryDate;
         this.isRevoked = false;
     }
@@ -53,12 +59,12 @@ public class RefreshToken {
         this.user = user;
     }
 
-    public String getToken() {
-        return token;
+    public String getTokenHash() {
+        return tokenHash;
     }
 
-    public void setToken(String token) {
-        this.token = token;
+    public void setTokenHash(String tokenHash) {
+        this.tokenHash = tokenHash;
     }
 
     public LocalDateTime getExpiryDate() {
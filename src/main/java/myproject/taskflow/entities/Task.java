@@ -6,11 +6,23 @@ import myproject.taskflow.enums.TaskStatus;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "tasks")
+// indexes follow the TaskFilter combinations: an equality column first, status second so both can be combined;
+// the (column, id) ones serve the cursor pagination of TaskKeyset
+@Table(name = "tasks", indexes = {
+        @Index(name = "ix_tasks_assigned_to_status", columnList = "assigned_to, status"),
+        @Index(name = "ix_tasks_created_by_status", columnList = "created_by, status"),
+        @Index(name = "ix_tasks_team_id_status", columnList = "team_id, status"),
+        @Index(name = "ix_tasks_category_id_status", columnList = "category_id, status"),
+        @Index(name = "ix_tasks_status_id", columnList = "status, id"),
+        @Index(name = "ix_tasks_priority_id", columnList = "priority, id"),
+        @Index(name = "ix_tasks_title_id", columnList = "title, id"),
+        @Index(name = "ix_tasks_deadline", columnList = "deadline"),
+        @Index(name = "ix_tasks_created_at_id", columnList = "created_at, id")
+})
 public class Task {
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_gen")
-    @SequenceGenerator(sequenceName = "task_seq", name = "task_gen",allocationSize = 1)
+    @SequenceGenerator(sequenceName = "task_seq", name = "task_gen",allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 100)
@@ -26,9 +38,13 @@ public class Task {
     @Column(nullable = false)
     private Integer priority;
 
+    // label as entered; filters go through categoryId, the entry in task_categories
     @Column(length = 50)
     private String category;
 
+    @Column(name = "category_id")
+    private Integer categoryId;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "created_by", nullable = false)
     private User createdBy;
@@ -101,6 +117,14 @@ public class Task {
         this.category = category;
     }
 
+    public Integer getCategoryId() {
+        return categoryId;
+    }
+
+    public void setCategoryId(Integer categoryId) {
+        this.categoryId = categoryId;
+    }
+
     public User getCreatedBy() {
         return createdBy;
     }
@@ -0,0 +1,39 @@
+package myproject.taskflow.entities;
+
+import jakarta.persistence.*;
+
+@Entity
+@Table(name = "task_categories")
+public class TaskCategory {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_category_gen")
+    @SequenceGenerator(sequenceName = "task_category_seq", name = "task_category_gen", allocationSize = 50)
+    private Integer id;
+
+    // canonical form: trimmed and lower case
+    @Column(nullable = false, unique = true, length = 50)
+    private String name;
+
+    public TaskCategory() {
+    }
+
+    public TaskCategory(String name) {
+        this.name = name;
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+}
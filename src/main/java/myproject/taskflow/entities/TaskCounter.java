@@ -0,0 +1,31 @@
+package myproject.taskflow.entities;
+
+import jakarta.persistence.*;
+
+// rollup of the dashboard counters, rewritten on every reconciliation
+@Entity
+@Table(name = "task_counters")
+public class TaskCounter {
+    @Id
+    @Column(name = "counter_key", length = 64)
+    private String key;
+
+    @Column(nullable = false)
+    private long total;
+
+    public String getKey() {
+        return key;
+    }
+
+    public void setKey(String key) {
+        this.key = key;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+}
@@ -0,0 +1,80 @@
+package myproject.taskflow.entities;
+
+import jakarta.persistence.*;
+import myproject.taskflow.enums.TaskStatus;
+
+import java.time.LocalDateTime;
+
+// read model of the open tasks per assignee, written together with the task; no foreign key so it can be written before the task row is flushed
+@Entity
+@Table(name = "task_inbox", indexes = {
+        @Index(name = "ix_task_inbox_assignee_deadline", columnList = "assignee_id, deadline, task_id")
+})
+public class TaskInboxEntry {
+    @Id
+    @Column(name = "task_id")
+    private Long taskId;
+
+    @Column(name = "assignee_id", nullable = false)
+    private Long assigneeId;
+
+    @Column(nullable = false, length = 100)
+    private String title;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TaskStatus status;
+
+    @Column(nullable = false)
+    private Integer priority;
+
+    private LocalDateTime deadline;
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(Long taskId) {
+        this.taskId = taskId;
+    }
+
+    public Long getAssigneeId() {
+        return assigneeId;
+    }
+
+    public void setAssigneeId(Long assigneeId) {
+        this.assigneeId = assigneeId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(TaskStatus status) {
+        this.status = status;
+    }
+
+    public Integer getPriority() {
+        return priority;
+    }
+
+    public void setPriority(Integer priority) {
+        this.priority = priority;
+    }
+
+    public LocalDateTime getDeadline() {
+        return deadline;
+    }
+
+    public void setDeadline(LocalDateTime deadline) {
+        this.deadline = deadline;
+    }
+}
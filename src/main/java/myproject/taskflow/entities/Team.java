@@ -9,7 +9,7 @@ import java.time.LocalDateTime;
 public class Team {
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "team_gen")
-    @SequenceGenerator(sequenceName = "team_seq", name = "team_gen",allocationSize = 1)
+    @SequenceGenerator(sequenceName = "team_seq", name = "team_gen",allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 100)
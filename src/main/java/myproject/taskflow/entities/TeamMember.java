@@ -5,11 +5,14 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "team_members")
+@Table(name = "team_members", indexes = {
+        @Index(name = "ix_team_members_team_id_user_id", columnList = "team_id, user_id"),
+        @Index(name = "ix_team_members_user_id", columnList = "user_id")
+})
 public class TeamMember {
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "teamM_gen")
-    @SequenceGenerator(sequenceName = "teamM_seq", name = "teamM_gen",allocationSize = 1)
+    @SequenceGenerator(sequenceName = "teamM_seq", name = "teamM_gen",allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
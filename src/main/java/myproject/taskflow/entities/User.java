@@ -14,7 +14,7 @@ import java.util.List;
 public class User implements UserDetails {
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_gen")
-    @SequenceGenerator(sequenceName = "user_seq", name = "user_gen",allocationSize = 1)
+    @SequenceGenerator(sequenceName = "user_seq", name = "user_gen",allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true, length = 50)
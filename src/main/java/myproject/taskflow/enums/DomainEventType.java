@@ -0,0 +1,28 @@
+package myproject.taskflow.enums;
+
+public enum DomainEventType {
+    TASK_CREATED(EventAggregate.TASK),
+    TASK_UPDATED(EventAggregate.TASK),
+    TASK_STATUS_CHANGED(EventAggregate.TASK),
+    TASK_ASSIGNED(EventAggregate.TASK),
+    TASK_DELETED(EventAggregate.TASK),
+    // set-based writes, not tied to a single task
+    TASKS_STATUS_CHANGED(EventAggregate.TASK),
+    TASKS_REASSIGNED(EventAggregate.TASK),
+    TASKS_IMPORTED(EventAggregate.TASK),
+    TEAM_CREATED(EventAggregate.TEAM),
+    TEAM_UPDATED(EventAggregate.TEAM),
+    TEAM_DELETED(EventAggregate.TEAM),
+    TEAM_MEMBER_ADDED(EventAggregate.TEAM),
+    TEAM_MEMBER_REMOVED(EventAggregate.TEAM);
+
+    private final EventAggregate aggregate;
+
+    DomainEventType(EventAggregate aggregate) {
+        this.aggregate = aggregate;
+    }
+
+    public EventAggregate getAggregate() {
+        return aggregate;
+    }
+}
@@ -0,0 +1,6 @@
+package myproject.taskflow.enums;
+
+public enum EventAggregate {
+    TASK,
+    TEAM
+}
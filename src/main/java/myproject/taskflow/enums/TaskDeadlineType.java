@@ -0,0 +1,7 @@
+package myproject.taskflow.enums;
+
+public enum TaskDeadlineType {
+    // tasks.deadlines.reminder-lead before the deadline
+    REMINDER,
+    OVERDUE
+}
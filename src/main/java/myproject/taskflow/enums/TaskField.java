@@ -0,0 +1,31 @@
+package myproject.taskflow.enums;
+
+// TaskResponse properties that can be requested with fields=, and the Task attribute each one reads
+public enum TaskField {
+    ID("id", "id"),
+    TITLE("title", "title"),
+    DESCRIPTION("description", "description"),
+    STATUS("status", "status"),
+    PRIORITY("priority", "priority"),
+    CATEGORY("category", "category"),
+    DEADLINE("deadline", "deadline"),
+    ASSIGNED_TO("assigned_to", "assignedTo.id"),
+    TEAM_ID("team_id", "team.id"),
+    CREATED_AT("created_at", "createdAt");
+
+    private final String property;
+    private final String attribute;
+
+    TaskField(String property, String attribute) {
+        this.property = property;
+        this.attribute = attribute;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public String getAttribute() {
+        return attribute;
+    }
+}
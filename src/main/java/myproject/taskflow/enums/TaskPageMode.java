@@ -0,0 +1,10 @@
+package myproject.taskflow.enums;
+
+public enum TaskPageMode {
+    // Page with an exact COUNT(*)
+    PAGE,
+    // next page flag only, no count
+    SLICE,
+    // Page whose total comes from a cheap estimate
+    ESTIMATE
+}
@@ -5,5 +5,9 @@ public enum TaskStatus {
     IN_PROGRESS,
     REVIEW,
     COMPLETED,
-    CANCELLED
+    CANCELLED;
+
+    public boolean isClosed() {
+        return this == COMPLETED || this == CANCELLED;
+    }
 }
@@ -0,0 +1,54 @@
+package myproject.taskflow.events;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import myproject.taskflow.enums.DomainEventType;
+import myproject.taskflow.enums.EventAggregate;
+
+import java.time.LocalDateTime;
+
+/**
+ * A task or team change read back from the outbox and published in-process to
+ * {@code @EventListener} methods. Delivery is at least once, so a listener may see the same
+ * id again; events of one aggregate arrive in the order they were committed.
+ */
+public class DomainEvent {
+    private final Long id;
+    private final EventAggregate aggregateType;
+    private final Long aggregateId;
+    private final DomainEventType type;
+    private final JsonNode payload;
+    private final LocalDateTime createdAt;
+
+    public DomainEvent(Long id, EventAggregate aggregateType, Long aggregateId, DomainEventType type, JsonNode payload, LocalDateTime createdAt) {
+        this.id = id;
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.type = type;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public EventAggregate getAggregateType() {
+        return aggregateType;
+    }
+
+    public Long getAggregateId() {
+        return aggregateId;
+    }
+
+    public DomainEventType getType() {
+        return type;
+    }
+
+    public JsonNode getPayload() {
+        return payload;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,30 @@
+package myproject.taskflow.events;
+
+import myproject.taskflow.enums.TaskDeadlineType;
+
+import java.time.LocalDateTime;
+
+// published in-process when an open task reaches its reminder time or its deadline
+public class TaskDeadlineEvent {
+    private final Long taskId;
+    private final TaskDeadlineType type;
+    private final LocalDateTime deadline;
+
+    public TaskDeadlineEvent(Long taskId, TaskDeadlineType type, LocalDateTime deadline) {
+        this.taskId = taskId;
+        this.type = type;
+        this.deadline = deadline;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public TaskDeadlineType getType() {
+        return type;
+    }
+
+    public LocalDateTime getDeadline() {
+        return deadline;
+    }
+}
@@ -0,0 +1,76 @@
+package myproject.taskflow.repositories.jdbc;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+public class TaskCounterJdbcRepository {
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean postgres;
+
+    public TaskCounterJdbcRepository(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.postgres = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+    }
+
+    public Map<String, Long> countByStatus() {
+        return countBy("select status, count(*) from tasks group by status");
+    }
+
+    public Map<String, Long> countOpenByPriority() {
+        return countBy("select priority, count(*) from tasks where " + TaskJdbcRepository.OPEN + " group by priority");
+    }
+
+    public Map<String, Long> countOpenByTeam() {
+        return countBy("select team_id, count(*) from tasks where team_id is not null and " + TaskJdbcRepository.OPEN + " group by team_id");
+    }
+
+    public Map<String, Long> countOpenByAssignee() {
+        return countBy("select assigned_to, count(*) from tasks where assigned_to is not null and " + TaskJdbcRepository.OPEN + " group by assigned_to");
+    }
+
+    private Map<String, Long> countBy(String sql) {
+        Map<String, Long> counts = new HashMap<>();
+        jdbcTemplate.query(sql, resultSet -> {
+            counts.put(resultSet.getString(1), resultSet.getLong(2));
+        });
+        return counts;
+    }
+
+    public Map<String, Long> loadRollup() {
+        Map<String, Long> counts = new HashMap<>();
+        jdbcTemplate.query("select counter_key, total from task_counters", resultSet -> {
+            counts.put(resultSet.getString(1), resultSet.getLong(2));
+        });
+        return counts;
+    }
+
+    /**
+     * Writes the counted totals over the rollup: existing keys are updated in place and only
+     * the keys that no longer occur are deleted, so readers and a concurrent reconciliation
+     * never meet a missing or duplicate row. Runs inside a transaction.
+     */
+    public void replaceRollup(Map<String, Long> counts) {
+        List<Object[]> gone = new ArrayList<>();
+        jdbcTemplate.query("select counter_key from task_counters", resultSet -> {
+            if (!counts.containsKey(resultSet.getString(1))) {
+                gone.add(new Object[]{resultSet.getString(1)});
+            }
+        });
+        jdbcTemplate.batchUpdate("delete from task_counters where counter_key = ?", gone);
+        List<Object[]> rows = new ArrayList<>(counts.size());
+        counts.forEach((key, total) -> rows.add(new Object[]{key, total}));
+        jdbcTemplate.batchUpdate(postgres
+                ? "insert into task_counters (counter_key, total) values (?, ?) on conflict (counter_key) do update set total = excluded.total"
+                : "merge into task_counters (counter_key, total) key (counter_key) values (?, ?)", rows);
+    }
+}
@@ -0,0 +1,97 @@
+package myproject.taskflow.repositories.jdbc;
+
+import jakarta.persistence.EntityManagerFactory;
+import myproject.taskflow.dto.request.TaskImportRow;
+import myproject.taskflow.enums.TaskStatus;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Repository
+public class TaskImportJdbcRepository {
+    // must match the allocationSize of task_seq on Task; with pooled-lo each nextval owns [value, value + 50)
+    static final int TASK_ID_BLOCK = 50;
+
+    private static final String INSERT_SQL = """
+            insert into tasks (id, title, description, status, priority, category, category_id, created_by, assigned_to, team_id, deadline, created_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final String nextTaskIdSql;
+
+    public TaskImportJdbcRepository(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.nextTaskIdSql = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect().getSequenceSupport().getSequenceNextValString("task_seq");
+    }
+
+    public Set<Long> findExistingUserIds(Collection<Long> ids) {
+        return findExistingIds("select id from users where id in (:ids)", ids);
+    }
+
+    public Set<Long> findExistingTeamIds(Collection<Long> ids) {
+        return findExistingIds("select id from teams where id in (:ids)", ids);
+    }
+
+    private Set<Long> findExistingIds(String sql, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(namedParameterJdbcTemplate.queryForList(sql, Map.of("ids", ids), Long.class));
+    }
+
+    /**
+     * Inserts the rows with ids reserved from task_seq in the same blocks Hibernate uses,
+     * so imported and regular tasks never collide. Must run inside a transaction.
+     *
+     * @return the ids given to the rows, in row order
+     */
+    public List<Long> insertBatch(List<TaskImportRow> rows, List<TaskStatus> statuses, List<Integer> categoryIds, LocalDateTime createdAt) {
+        List<Object[]> batch = new ArrayList<>(rows.size());
+        List<Long> ids = new ArrayList<>(rows.size());
+        long nextId = 0;
+        long blockEnd = 0;
+        Timestamp created = Timestamp.valueOf(createdAt);
+        for (int i = 0; i < rows.size(); i++) {
+            if (nextId == blockEnd) {
+                nextId = jdbcTemplate.queryForObject(nextTaskIdSql, Long.class);
+                blockEnd = nextId + TASK_ID_BLOCK;
+            }
+            TaskImportRow row = rows.get(i);
+            ids.add(nextId);
+            batch.add(new Object[]{
+                    nextId++,
+                    row.getTitle(),
+                    row.getDescription(),
+                    statuses.get(i).name(),
+                    row.getPriority(),
+                    row.getCategory(),
+                    categoryIds.get(i),
+                    row.getCreated_by(),
+                    row.getAssigned_to(),
+                    row.getTeam_id(),
+                    row.getDeadline() != null ? Timestamp.valueOf(row.getDeadline()) : null,
+                    created
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch, new int[]{
+                Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.INTEGER, Types.VARCHAR, Types.INTEGER,
+                Types.BIGINT, Types.BIGINT, Types.BIGINT, Types.TIMESTAMP, Types.TIMESTAMP
+        });
+        return ids;
+    }
+}
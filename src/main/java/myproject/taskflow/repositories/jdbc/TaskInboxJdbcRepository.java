@@ -0,0 +1,89 @@
+package myproject.taskflow.repositories.jdbc;
+
+import jakarta.persistence.EntityManagerFactory;
+import myproject.taskflow.dto.response.TaskInboxResponse;
+import myproject.taskflow.entities.TaskInboxEntry;
+import myproject.taskflow.enums.TaskStatus;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Rows of task_inbox are upserted by task_id and deleted once their task is closed, unassigned
+ * or gone, so concurrent writers of the same task never collide on the key. The refresh methods
+ * copy the current state from tasks and must run in the transaction that changed it.
+ */
+@Repository
+public class TaskInboxJdbcRepository {
+    private static final String OPEN_ASSIGNED = "assigned_to is not null and " + TaskJdbcRepository.OPEN;
+    private static final String SELECT_OPEN = "select id, assigned_to, title, status, priority, deadline from tasks where " + OPEN_ASSIGNED;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean postgres;
+
+    public TaskInboxJdbcRepository(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.postgres = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+    }
+
+    public List<TaskInboxResponse> findTop(Long assigneeId, int limit) {
+        return jdbcTemplate.query("select task_id, title, status, priority, deadline from task_inbox " +
+                        "where assignee_id = ? order by deadline nulls last, task_id limit ?",
+                (resultSet, rowNum) -> {
+                    Timestamp deadline = resultSet.getTimestamp("deadline");
+                    return new TaskInboxResponse(
+                            resultSet.getLong("task_id"),
+                            resultSet.getString("title"),
+                            TaskStatus.valueOf(resultSet.getString("status")),
+                            resultSet.getInt("priority"),
+                            deadline != null ? deadline.toLocalDateTime() : null);
+                },
+                assigneeId, limit);
+    }
+
+    public void replace(Long taskId, TaskInboxEntry entry) {
+        if (entry == null) {
+            jdbcTemplate.update("delete from task_inbox where task_id = ?", taskId);
+            return;
+        }
+        jdbcTemplate.update(upsert("values (?, ?, ?, ?, ?, ?)"),
+                entry.getTaskId(), entry.getAssigneeId(), entry.getTitle(), entry.getStatus().name(), entry.getPriority(),
+                entry.getDeadline() != null ? Timestamp.valueOf(entry.getDeadline()) : null);
+    }
+
+    public void refresh(Collection<Long> taskIds) {
+        if (taskIds.isEmpty()) {
+            return;
+        }
+        String in = "(" + String.join(", ", Collections.nCopies(taskIds.size(), "?")) + ")";
+        List<Object> args = new ArrayList<>(taskIds);
+        args.addAll(taskIds);
+        jdbcTemplate.update("delete from task_inbox where task_id in " + in +
+                " and task_id not in (select id from tasks where id in " + in + " and " + OPEN_ASSIGNED + ")", args.toArray());
+        jdbcTemplate.update(upsert(SELECT_OPEN + " and id in " + in), taskIds.toArray());
+    }
+
+    public void refreshAssignee(Long assigneeId) {
+        jdbcTemplate.update("delete from task_inbox where assignee_id = ? " +
+                "and task_id not in (select id from tasks where assigned_to = ? and " + OPEN_ASSIGNED + ")", assigneeId, assigneeId);
+        jdbcTemplate.update(upsert(SELECT_OPEN + " and assigned_to = ?"), assigneeId);
+    }
+
+    // source yields task_id, assignee_id, title, status, priority, deadline in that order
+    private String upsert(String source) {
+        if (postgres) {
+            return "insert into task_inbox (task_id, assignee_id, title, status, priority, deadline) " + source +
+                    " on conflict (task_id) do update set assignee_id = excluded.assignee_id, title = excluded.title, " +
+                    "status = excluded.status, priority = excluded.priority, deadline = excluded.deadline";
+        }
+        return "merge into task_inbox (task_id, assignee_id, title, status, priority, deadline) key (task_id) " + source;
+    }
+}
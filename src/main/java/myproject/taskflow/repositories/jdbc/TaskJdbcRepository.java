@@ -0,0 +1,255 @@
+package myproject.taskflow.repositories.jdbc;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import myproject.taskflow.dto.request.TaskFilter;
+import myproject.taskflow.enums.TaskStatus;
+import myproject.taskflow.repositories.jpa.TaskState;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Repository
+public class TaskJdbcRepository {
+    private static final Logger log = LoggerFactory.getLogger(TaskJdbcRepository.class);
+    // TaskStatus.isClosed as a condition on tasks.status, shared by every query over open tasks
+    static final String OPEN = Arrays.stream(TaskStatus.values())
+            .filter(TaskStatus::isClosed)
+            .map(status -> "'" + status.name() + "'")
+            .collect(Collectors.joining(", ", "status not in (", ")"));
+
+    private static final RowMapper<TaskState> STATE = (resultSet, rowNum) -> {
+        Timestamp deadline = resultSet.getTimestamp(5);
+        return new TaskState(
+                TaskStatus.valueOf(resultSet.getString(1)),
+                resultSet.getObject(2, Integer.class),
+                resultSet.getObject(3, Long.class),
+                resultSet.getObject(4, Long.class),
+                deadline != null ? deadline.toLocalDateTime() : null);
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean postgres;
+
+    @Value("${tasks.page.estimate.count-cap:10000}")
+    private long countCap;
+
+    public TaskJdbcRepository(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.postgres = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+    }
+
+    /**
+     * Approximate number of tasks matching the filter. On PostgreSQL this is the planner's
+     * row estimate (no rows are read); elsewhere it is an exact count that stops at
+     * {@code tasks.page.estimate.count-cap}.
+     */
+    public long estimateCount(TaskFilter filter, Set<Integer> categoryIds) {
+        List<Object> args = new ArrayList<>();
+        String sql = "select 1 from tasks" + where(filter, categoryIds, args);
+        if (postgres) {
+            try {
+                String plan = jdbcTemplate.queryForObject("explain (format json) " + sql, String.class, args.toArray());
+                JsonNode rows = objectMapper.readTree(plan).path(0).path("Plan").path("Plan Rows");
+                if (rows.isNumber()) {
+                    return rows.asLong();
+                }
+            } catch (DataAccessException | JsonProcessingException e) {
+                log.debug("Planner estimate failed, falling back to a capped count", e);
+            }
+        }
+        args.add(countCap);
+        Long count = jdbcTemplate.queryForObject("select count(*) from (" + sql + " limit ?) capped", Long.class, args.toArray());
+        return count != null ? count : 0;
+    }
+
+    /**
+     * Runs the filter as one forward-only query and hands each row to the handler while the
+     * driver fetches {@code fetchSize} rows at a time. Nothing is materialized or attached to
+     * a persistence context. PostgreSQL only uses a server-side cursor inside a transaction.
+     */
+    public void streamMatching(TaskFilter filter, Set<Integer> categoryIds, int fetchSize, RowCallbackHandler handler) {
+        List<Object> args = new ArrayList<>();
+        String sql = "select id, title, description, status, priority, category, deadline, assigned_to, team_id, created_at from tasks"
+                + where(filter, categoryIds, args) + " order by id";
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            for (int i = 0; i < args.size(); i++) {
+                statement.setObject(i + 1, args.get(i));
+            }
+            return statement;
+        }, handler);
+    }
+
+    /**
+     * Sets the status when the caller created or is assigned to the task, or is privileged, and
+     * returns the task as it was before. On PostgreSQL this is a single statement; elsewhere the
+     * row is read and locked first. Either way only a permitted write locks the row.
+     *
+     * @return empty when the task is missing or the caller has no access
+     */
+    public Optional<TaskState> updateStatusIfPermitted(long id, TaskStatus status, Long userId, boolean privileged) {
+        List<Object> args = new ArrayList<>(List.of(id));
+        String permitted = privileged ? "" : permitted(args, userId, true);
+        if (postgres) {
+            args.add(0, status.name());
+            return single(jdbcTemplate.query("update tasks t set status = ? from (select id, status from tasks where id = ?" + permitted +
+                    " for update) old where t.id = old.id returning old.status, t.priority, t.team_id, t.assigned_to, t.deadline",
+                    STATE, args.toArray()));
+        }
+        Optional<TaskState> before = lockState(permitted, args);
+        before.ifPresent(state -> jdbcTemplate.update("update tasks set status = ? where id = ?", status.name(), id));
+        return before;
+    }
+
+    // only the creator (or a privileged caller) reassigns, and only to an existing user
+    public Optional<TaskState> reassignIfPermitted(long id, long assigneeId, Long userId, boolean privileged) {
+        List<Object> args = new ArrayList<>(List.of(id));
+        String permitted = (privileged ? "" : permitted(args, userId, false)) + " and exists (select 1 from users where id = ?)";
+        args.add(assigneeId);
+        if (postgres) {
+            args.add(0, assigneeId);
+            return single(jdbcTemplate.query("update tasks t set assigned_to = ? from (select id, assigned_to from tasks where id = ?" + permitted +
+                    " for update) old where t.id = old.id returning t.status, t.priority, t.team_id, old.assigned_to, t.deadline",
+                    STATE, args.toArray()));
+        }
+        Optional<TaskState> before = lockState(permitted, args);
+        before.ifPresent(state -> jdbcTemplate.update("update tasks set assigned_to = ? where id = ?", assigneeId, id));
+        return before;
+    }
+
+    public Optional<TaskState> deleteIfPermitted(long id, Long userId, boolean privileged) {
+        List<Object> args = new ArrayList<>(List.of(id));
+        String permitted = privileged ? "" : permitted(args, userId, false);
+        if (postgres) {
+            return single(jdbcTemplate.query("delete from tasks where id = ?" + permitted +
+                    " returning status, priority, team_id, assigned_to, deadline", STATE, args.toArray()));
+        }
+        Optional<TaskState> before = lockState(permitted, args);
+        before.ifPresent(state -> jdbcTemplate.update("delete from tasks where id = ?", id));
+        return before;
+    }
+
+    private static String permitted(List<Object> args, Long userId, boolean assigneeToo) {
+        args.add(userId);
+        if (!assigneeToo) {
+            return " and created_by = ?";
+        }
+        args.add(userId);
+        return " and (created_by = ? or assigned_to = ?)";
+    }
+
+    private Optional<TaskState> lockState(String permitted, List<Object> args) {
+        return single(jdbcTemplate.query("select status, priority, team_id, assigned_to, deadline from tasks where id = ?" + permitted +
+                " for update", STATE, args.toArray()));
+    }
+
+    private static Optional<TaskState> single(List<TaskState> states) {
+        return states.isEmpty() ? Optional.empty() : Optional.of(states.get(0));
+    }
+
+    /**
+     * Ids of the tasks the filter matches and the caller may change, locked in id order until the
+     * transaction ends so a bulk update by id touches exactly these rows.
+     */
+    public List<Long> lockMatchingIds(TaskFilter filter, Set<Integer> categoryIds, Long userId, boolean privileged) {
+        List<Object> args = new ArrayList<>();
+        String where = where(filter, categoryIds, args);
+        if (!privileged) {
+            where += (where.isEmpty() ? " where" : " and") + " (created_by = ? or assigned_to = ?)";
+            args.add(userId);
+            args.add(userId);
+        }
+        return jdbcTemplate.queryForList("select id from tasks" + where + " order by id for update", Long.class, args.toArray());
+    }
+
+    // deadline in (from, to], read through ix_tasks_deadline
+    public Map<Long, LocalDateTime> findOpenDeadlines(LocalDateTime from, LocalDateTime to) {
+        Map<Long, LocalDateTime> deadlines = new HashMap<>();
+        jdbcTemplate.query("select id, deadline from tasks where deadline > ? and deadline <= ? and " + OPEN,
+                resultSet -> {
+                    deadlines.put(resultSet.getLong(1), resultSet.getTimestamp(2).toLocalDateTime());
+                },
+                Timestamp.valueOf(from), Timestamp.valueOf(to));
+        return deadlines;
+    }
+
+    // mirrors TaskSpecification
+    static String where(TaskFilter filter, Set<Integer> categoryIds, List<Object> args) {
+        List<String> conditions = new ArrayList<>();
+        if (filter.getStatus() != null) {
+            conditions.add("status = ?");
+            args.add(filter.getStatus().name());
+        }
+        if (filter.getPriority() != null) {
+            conditions.add("priority = ?");
+            args.add(filter.getPriority());
+        }
+        if (categoryIds != null) {
+            if (categoryIds.isEmpty()) {
+                conditions.add("1 = 0");
+            } else {
+                conditions.add("category_id in (" + String.join(", ", Collections.nCopies(categoryIds.size(), "?")) + ")");
+                args.addAll(categoryIds);
+            }
+        }
+        if (filter.getCategoryContains() != null && !filter.getCategoryContains().isBlank()) {
+            conditions.add("lower(category) like ?");
+            args.add("%" + filter.getCategoryContains().trim().toLowerCase(Locale.ROOT) + "%");
+        }
+        if (filter.getCreatedById() != null) {
+            conditions.add("created_by = ?");
+            args.add(filter.getCreatedById());
+        }
+        if (filter.getAssignedToId() != null) {
+            conditions.add("assigned_to = ?");
+            args.add(filter.getAssignedToId());
+        }
+        if (filter.getTeamId() != null) {
+            conditions.add("team_id = ?");
+            args.add(filter.getTeamId());
+        }
+        addRange(conditions, args, "deadline >= ?", filter.getDeadlineFrom());
+        addRange(conditions, args, "deadline <= ?", filter.getDeadlineTo());
+        addRange(conditions, args, "created_at >= ?", filter.getCreatedAtFrom());
+        addRange(conditions, args, "created_at <= ?", filter.getCreatedAtTo());
+        return conditions.isEmpty() ? "" : " where " + String.join(" and ", conditions);
+    }
+
+    private static void addRange(List<String> conditions, List<Object> args, String condition, OffsetDateTime value) {
+        if (value != null) {
+            conditions.add(condition);
+            args.add(Timestamp.valueOf(value.atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime()));
+        }
+    }
+}
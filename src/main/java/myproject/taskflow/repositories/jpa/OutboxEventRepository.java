@@ -0,0 +1,35 @@
+package myproject.taskflow.repositories.jpa;
+
+import myproject.taskflow.entities.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+    // the oldest pending event of each aggregate, so a later event never overtakes one waiting for a retry;
+    // a bulk event has no aggregate id and covers every aggregate of its type, so it waits for all earlier
+    // events of that type and holds back all later ones
+    @Query("select e from OutboxEvent e where e.attempts < :maxAttempts and e.availableAt <= :now " +
+            "and not exists (select p.id from OutboxEvent p where p.aggregateType = e.aggregateType " +
+            "and (p.aggregateId = e.aggregateId or p.aggregateId is null or e.aggregateId is null) " +
+            "and p.id < e.id and p.attempts < :maxAttempts) " +
+            "order by e.id")
+    List<OutboxEvent> findDeliverable(int maxAttempts, LocalDateTime now, Pageable pageable);
+
+    @Query("select count(e) from OutboxEvent e where e.attempts < :maxAttempts")
+    long countPending(int maxAttempts);
+
+    // gave up after maxAttempts; kept for inspection
+    @Query("select count(e) from OutboxEvent e where e.attempts >= :maxAttempts")
+    long countDead(int maxAttempts);
+
+    @Modifying
+    @Query("update OutboxEvent e set e.attempts = e.attempts + 1, e.lastError = :error, e.availableAt = :retryAt where e.id = :id")
+    int recordFailure(Long id, String error, LocalDateTime retryAt);
+}
@@ -2,18 +2,35 @@ package myproject.taskflow.repositories.jpa;
 
 import myproject.taskflow.entities.RefreshToken;
 import myproject.taskflow.entities.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
-    Optional<RefreshToken> findByToken(String refToken);
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
 
     Optional<RefreshToken> findByUserId(Long id);
 
     void deleteByUser(User user);
 
     void deleteByUserId(Long userId);
+
+    @Query("select t.id from RefreshToken t where t.expiryDate < :now or t.isRevoked = true order by t.id")
+    List<Long> findExpiredOrRevokedIds(LocalDateTime now, Pageable pageable);
+
+    @Query("select count(t) from RefreshToken t where t.expiryDate < :now or t.isRevoked = true")
+    long countExpiredOrRevoked(LocalDateTime now);
+
+    // re-checks the condition so a row rotated by a concurrent login is kept
+    @Modifying
+    @Query("delete from RefreshToken t where t.id in :ids and (t.expiryDate < :now or t.isRevoked = true)")
+    int deleteExpiredOrRevoked(Collection<Long> ids, LocalDateTime now);
 }
@@ -0,0 +1,12 @@
+package myproject.taskflow.repositories.jpa;
+
+import myproject.taskflow.entities.TaskCategory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface TaskCategoryRepository extends JpaRepository<TaskCategory, Integer> {
+    Optional<TaskCategory> findByName(String name);
+}
@@ -1,11 +1,35 @@
 package myproject.taskflow.repositories.jpa;
 
+import jakarta.persistence.LockModeType;
 import myproject.taskflow.entities.Task;
+import myproject.taskflow.entities.User;
+import myproject.taskflow.enums.TaskStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Optional;
+
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> , JpaSpecificationExecutor<Task> {
-}
+public interface TaskRepository extends JpaRepository<Task, Long> , JpaSpecificationExecutor<Task>, TaskRepositoryCustom {
+
+    // the permission check is part of the statement, so skipped ids are missing or not accessible
+    @Modifying
+    @Query("update Task t set t.status = :status where t.id in :ids " +
+            "and (:privileged = true or t.createdBy.id = :userId or t.assignedTo.id = :userId)")
+    int updateStatusInIfPermitted(Collection<Long> ids, TaskStatus status, Long userId, boolean privileged);
 
+    @Modifying
+    @Query("update Task t set t.assignedTo = :assignee where t.assignedTo.id = :fromUserId " +
+            "and (:privileged = true or t.createdBy.id = :userId)")
+    int reassignAllIfPermitted(Long fromUserId, User assignee, Long userId, boolean privileged);
+
+    // locked, so the outbox events of concurrent updates are written in commit order
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from Task t where t.id = :id")
+    Optional<Task> findByIdForUpdate(Long id);
+}
@@ -0,0 +1,22 @@
+package myproject.taskflow.repositories.jpa;
+
+import myproject.taskflow.dto.response.TaskResponse;
+import myproject.taskflow.entities.Task;
+import myproject.taskflow.enums.TaskField;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Set;
+
+public interface TaskRepositoryCustom {
+    // like findAll(spec, pageable) without the COUNT query and OFFSET
+    List<Task> findSlice(Specification<Task> specification, Sort sort, int limit);
+
+    Slice<Task> findSlice(Specification<Task> specification, Pageable pageable);
+
+    // selects only the given columns, the other TaskResponse properties stay null
+    List<TaskResponse> findProjected(Specification<Task> specification, Sort sort, long offset, int limit, Set<TaskField> fields);
+}
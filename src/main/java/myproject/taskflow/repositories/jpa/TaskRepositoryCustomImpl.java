@@ -0,0 +1,104 @@
+package myproject.taskflow.repositories.jpa;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import myproject.taskflow.dto.response.TaskResponse;
+import myproject.taskflow.entities.Task;
+import myproject.taskflow.enums.TaskField;
+import myproject.taskflow.enums.TaskStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Task> findSlice(Specification<Task> specification, Sort sort, int limit) {
+        return select(specification, sort, 0, limit);
+    }
+
+    // reads one row past the page to know whether another page exists
+    @Override
+    public Slice<Task> findSlice(Specification<Task> specification, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(select(specification, pageable.getSort(), 0, Integer.MAX_VALUE));
+        }
+        List<Task> tasks = select(specification, pageable.getSort(), pageable.getOffset(), pageable.getPageSize() + 1);
+        boolean hasNext = tasks.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? tasks.subList(0, pageable.getPageSize()) : tasks, pageable, hasNext);
+    }
+
+    private List<Task> select(Specification<Task> specification, Sort sort, long offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Task> query = cb.createQuery(Task.class);
+        Root<Task> root = query.from(Task.class);
+        query.select(root)
+                .where(specification.toPredicate(root, query, cb))
+                .orderBy(QueryUtils.toOrders(sort, root, cb));
+        return entityManager.createQuery(query)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * Reads the requested columns straight into TaskResponse: no entities are loaded, the
+     * lazy associations are never touched (their ids come from the foreign key columns)
+     * and description is only read when asked for.
+     */
+    @Override
+    public List<TaskResponse> findProjected(Specification<Task> specification, Sort sort, long offset, int limit, Set<TaskField> fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Task> root = query.from(Task.class);
+        List<Selection<?>> selections = fields.stream()
+                .<Selection<?>>map(field -> attribute(root, field).alias(field.name()))
+                .toList();
+        query.multiselect(selections)
+                .where(specification.toPredicate(root, query, cb))
+                .orderBy(QueryUtils.toOrders(sort, root, cb));
+        return entityManager.createQuery(query)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList().stream()
+                .map(row -> new TaskResponse(
+                        value(row, fields, TaskField.ID, Long.class),
+                        value(row, fields, TaskField.TITLE, String.class),
+                        value(row, fields, TaskField.DESCRIPTION, String.class),
+                        value(row, fields, TaskField.STATUS, TaskStatus.class),
+                        value(row, fields, TaskField.PRIORITY, Integer.class),
+                        value(row, fields, TaskField.CATEGORY, String.class),
+                        value(row, fields, TaskField.DEADLINE, LocalDateTime.class),
+                        value(row, fields, TaskField.ASSIGNED_TO, Long.class),
+                        value(row, fields, TaskField.TEAM_ID, Long.class),
+                        value(row, fields, TaskField.CREATED_AT, LocalDateTime.class)))
+                .toList();
+    }
+
+    private static Path<?> attribute(Root<Task> root, TaskField field) {
+        Path<?> path = root;
+        for (String name : field.getAttribute().split("\\.")) {
+            path = path.get(name);
+        }
+        return path;
+    }
+
+    private static <T> T value(Tuple row, Set<TaskField> fields, TaskField field, Class<T> type) {
+        return fields.contains(field) ? row.get(field.name(), type) : null;
+    }
+}
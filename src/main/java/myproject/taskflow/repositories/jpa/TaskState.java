@@ -0,0 +1,61 @@
+package myproject.taskflow.repositories.jpa;
+
+import myproject.taskflow.entities.Task;
+import myproject.taskflow.enums.TaskStatus;
+
+import java.time.LocalDateTime;
+
+// the task attributes that dashboard counters, cached listings and deadline timers are keyed by
+public class TaskState {
+    private final TaskStatus status;
+    private final Integer priority;
+    private final Long teamId;
+    private final Long assigneeId;
+    private final LocalDateTime deadline;
+
+    public TaskState(TaskStatus status, Integer priority, Long teamId, Long assigneeId, LocalDateTime deadline) {
+        this.status = status;
+        this.priority = priority;
+        this.teamId = teamId;
+        this.assigneeId = assigneeId;
+        this.deadline = deadline;
+    }
+
+    public static TaskState of(Task task) {
+        return new TaskState(
+                task.getStatus(),
+                task.getPriority(),
+                task.getTeam() != null ? task.getTeam().getId() : null,
+                task.getAssignedTo() != null ? task.getAssignedTo().getId() : null,
+                task.getDeadline()
+        );
+    }
+
+    public TaskState withStatus(TaskStatus status) {
+        return new TaskState(status, priority, teamId, assigneeId, deadline);
+    }
+
+    public TaskState withAssignee(Long assigneeId) {
+        return new TaskState(status, priority, teamId, assigneeId, deadline);
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public Integer getPriority() {
+        return priority;
+    }
+
+    public Long getTeamId() {
+        return teamId;
+    }
+
+    public Long getAssigneeId() {
+        return assigneeId;
+    }
+
+    public LocalDateTime getDeadline() {
+        return deadline;
+    }
+}
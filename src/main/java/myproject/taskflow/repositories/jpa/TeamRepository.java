@@ -1,9 +1,19 @@
 package myproject.taskflow.repositories.jpa;
 
+import jakarta.persistence.LockModeType;
 import myproject.taskflow.entities.Team;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 @Repository
 public interface TeamRepository extends JpaRepository<Team, Long> {
+
+    // locked, so the outbox events of concurrent team writes are written in commit order
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from Team t where t.id = :id")
+    Optional<Team> findByIdForUpdate(Long id);
 }
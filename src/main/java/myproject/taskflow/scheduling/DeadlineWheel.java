@@ -0,0 +1,136 @@
+package myproject.taskflow.scheduling;
+
+import myproject.taskflow.enums.TaskDeadlineType;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timing wheel: one slot per tick, covering {@code slotCount} ticks ahead. Entries
+ * further out are rejected and left to the next reload, so a slot only ever holds entries
+ * of a single tick and advancing by one tick touches only what is due. Scheduling and
+ * cancelling are O(1). Not thread-safe.
+ */
+public class DeadlineWheel {
+    private final long tickMillis;
+    private final List<Set<Entry>> slots;
+    private final Map<Long, List<Entry>> byTask = new HashMap<>();
+    private long currentTick;
+    private int size;
+
+    public DeadlineWheel(long tickMillis, int slotCount, long nowMillis) {
+        if (tickMillis <= 0 || slotCount <= 0) {
+            throw new IllegalArgumentException("Tick and slot count must be positive");
+        }
+        this.tickMillis = tickMillis;
+        this.slots = new ArrayList<>(slotCount);
+        for (int i = 0; i < slotCount; i++) {
+            slots.add(new LinkedHashSet<>());
+        }
+        this.currentTick = Math.floorDiv(nowMillis, tickMillis);
+    }
+
+    /**
+     * @param catchUp whether a fire time that already passed fires on the next tick instead of being dropped
+     * @return false when the fire time is past (without catchUp) or beyond the wheel
+     */
+    public boolean schedule(long taskId, TaskDeadlineType type, LocalDateTime deadline, long fireAtMillis, boolean catchUp) {
+        long tick = Math.ceilDiv(fireAtMillis, tickMillis);
+        if (tick <= currentTick) {
+            if (!catchUp) {
+                return false;
+            }
+            tick = currentTick + 1;
+        }
+        if (tick - currentTick > slots.size()) {
+            return false;
+        }
+        Entry entry = new Entry(taskId, type, deadline, fireAtMillis, tick);
+        slot(tick).add(entry);
+        byTask.computeIfAbsent(taskId, id -> new ArrayList<>(2)).add(entry);
+        size++;
+        return true;
+    }
+
+    public void cancel(long taskId) {
+        List<Entry> entries = byTask.remove(taskId);
+        if (entries != null) {
+            for (Entry entry : entries) {
+                slot(entry.tick).remove(entry);
+                size--;
+            }
+        }
+    }
+
+    // after a pause longer than the wheel everything is due, so at most one revolution is walked
+    public void advance(long nowMillis, Consumer<Entry> fired) {
+        long target = Math.floorDiv(nowMillis, tickMillis);
+        long last = Math.min(target, currentTick + slots.size());
+        for (long tick = currentTick + 1; tick <= last; tick++) {
+            Set<Entry> slot = slot(tick);
+            for (Entry entry : slot) {
+                List<Entry> entries = byTask.get(entry.taskId);
+                entries.remove(entry);
+                if (entries.isEmpty()) {
+                    byTask.remove(entry.taskId);
+                }
+                fired.accept(entry);
+            }
+            size -= slot.size();
+            slot.clear();
+        }
+        currentTick = Math.max(currentTick, target);
+    }
+
+    public void clear() {
+        slots.forEach(Set::clear);
+        byTask.clear();
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private Set<Entry> slot(long tick) {
+        return slots.get((int) Math.floorMod(tick, (long) slots.size()));
+    }
+
+    public static final class Entry {
+        private final long taskId;
+        private final TaskDeadlineType type;
+        private final LocalDateTime deadline;
+        private final long fireAtMillis;
+        private final long tick;
+
+        private Entry(long taskId, TaskDeadlineType type, LocalDateTime deadline, long fireAtMillis, long tick) {
+            this.taskId = taskId;
+            this.type = type;
+            this.deadline = deadline;
+            this.fireAtMillis = fireAtMillis;
+            this.tick = tick;
+        }
+
+        public long getTaskId() {
+            return taskId;
+        }
+
+        public TaskDeadlineType getType() {
+            return type;
+        }
+
+        public LocalDateTime getDeadline() {
+            return deadline;
+        }
+
+        public long getFireAtMillis() {
+            return fireAtMillis;
+        }
+    }
+}
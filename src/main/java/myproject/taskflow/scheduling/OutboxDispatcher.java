@@ -0,0 +1,134 @@
+package myproject.taskflow.scheduling;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import myproject.taskflow.entities.OutboxEvent;
+import myproject.taskflow.events.DomainEvent;
+import myproject.taskflow.repositories.jpa.OutboxEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains outbox_events in batches and publishes each row as a DomainEvent to in-process
+ * listeners. A row is deleted only after every listener returned, so delivery is at least
+ * once. Only the oldest pending event of an aggregate is picked up; when a listener throws,
+ * the row is retried after an exponential backoff and later events of the same task or
+ * team wait for it. Bulk events carry no aggregate id and order against every task or team:
+ * they wait for all earlier events of their aggregate type and block all later ones. After {@code outbox.dispatch.max-attempts} failures the row is left in
+ * the table and no longer holds the others back.
+ */
+@Component
+public class OutboxDispatcher {
+    private static final Logger log = LoggerFactory.getLogger(OutboxDispatcher.class);
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final Counter dispatched;
+    private final Counter failed;
+    private final Timer lag;
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong dead = new AtomicLong();
+
+    @Value("${outbox.dispatch.batch-size:100}")
+    private int batchSize;
+
+    @Value("${outbox.dispatch.max-batches:50}")
+    private int maxBatches;
+
+    @Value("${outbox.dispatch.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${outbox.dispatch.retry-backoff:PT1S}")
+    private Duration retryBackoff;
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository, TransactionTemplate transactionTemplate,
+                            ApplicationEventPublisher eventPublisher, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.dispatched = Counter.builder("taskflow.outbox.dispatched")
+                .description("Outbox events delivered to all listeners")
+                .register(meterRegistry);
+        this.failed = Counter.builder("taskflow.outbox.failed")
+                .description("Outbox deliveries where a listener threw")
+                .register(meterRegistry);
+        this.lag = Timer.builder("taskflow.outbox.lag")
+                .description("Delay between writing an outbox event and delivering it")
+                .register(meterRegistry);
+        Gauge.builder("taskflow.outbox.pending", pending, AtomicLong::get)
+                .description("Outbox events waiting for delivery, as of the last run")
+                .register(meterRegistry);
+        Gauge.builder("taskflow.outbox.dead", dead, AtomicLong::get)
+                .description("Outbox events that exhausted their attempts")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.dispatch.interval:PT1S}")
+    public void run() {
+        for (int batch = 0; batch < maxBatches; batch++) {
+            if (dispatchBatch() == 0) {
+                break;
+            }
+        }
+        pending.set(outboxEventRepository.countPending(maxAttempts));
+        dead.set(outboxEventRepository.countDead(maxAttempts));
+    }
+
+    /**
+     * @return events delivered
+     */
+    public int dispatchBatch() {
+        List<OutboxEvent> batch = outboxEventRepository.findDeliverable(maxAttempts, LocalDateTime.now(), PageRequest.of(0, batchSize));
+        List<Long> delivered = new ArrayList<>(batch.size());
+        for (OutboxEvent event : batch) {
+            try {
+                eventPublisher.publishEvent(toDomainEvent(event));
+            } catch (RuntimeException e) {
+                failed.increment();
+                String error = NestedExceptionUtils.getMostSpecificCause(e).toString();
+                log.warn("Outbox event {} ({}) failed on attempt {}: {}", event.getId(), event.getEventType(), event.getAttempts() + 1, error);
+                LocalDateTime retryAt = LocalDateTime.now().plus(retryBackoff.multipliedBy(1L << Math.min(event.getAttempts(), 16)));
+                transactionTemplate.executeWithoutResult(status -> outboxEventRepository.recordFailure(event.getId(),
+                        error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error, retryAt));
+                continue;
+            }
+            delivered.add(event.getId());
+            dispatched.increment();
+            lag.record(Duration.between(event.getCreatedAt(), LocalDateTime.now()));
+        }
+        if (!delivered.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> outboxEventRepository.deleteAllByIdInBatch(delivered));
+        }
+        return delivered.size();
+    }
+
+    private DomainEvent toDomainEvent(OutboxEvent event) {
+        try {
+            return new DomainEvent(event.getId(), event.getAggregateType(), event.getAggregateId(), event.getEventType(),
+                    objectMapper.readTree(event.getPayload()), event.getCreatedAt());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable payload", e);
+        }
+    }
+}
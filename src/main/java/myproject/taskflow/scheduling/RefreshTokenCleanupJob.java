@@ -0,0 +1,82 @@
+package myproject.taskflow.scheduling;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import myproject.taskflow.repositories.jpa.RefreshTokenRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Deletes expired and revoked refresh tokens. Rows are removed in chunks, each in its
+ * own short transaction, so the job never holds locks on a large part of the table.
+ * In dry-run mode it only reports how many rows it would delete.
+ */
+@Component
+public class RefreshTokenCleanupJob {
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenCleanupJob.class);
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter purged;
+    private final Timer duration;
+
+    @Value("${security.refresh-token.cleanup.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${security.refresh-token.cleanup.max-chunks:1000}")
+    private int maxChunks;
+
+    @Value("${security.refresh-token.cleanup.dry-run:false}")
+    private boolean dryRun;
+
+    public RefreshTokenCleanupJob(RefreshTokenRepository refreshTokenRepository, TransactionTemplate transactionTemplate, MeterRegistry meterRegistry) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.purged = Counter.builder("taskflow.refresh_tokens.purged")
+                .description("Expired or revoked refresh tokens deleted by the cleanup job")
+                .register(meterRegistry);
+        this.duration = Timer.builder("taskflow.refresh_tokens.cleanup")
+                .description("Duration of refresh token cleanup runs")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${security.refresh-token.cleanup.interval:PT1H}",
+            initialDelayString = "${security.refresh-token.cleanup.initial-delay:PT5M}")
+    public void run() {
+        duration.record(() -> purge(LocalDateTime.now()));
+    }
+
+    /**
+     * @return rows deleted, or rows that would be deleted in dry-run mode
+     */
+    public long purge(LocalDateTime now) {
+        if (dryRun) {
+            long candidates = refreshTokenRepository.countExpiredOrRevoked(now);
+            log.info("Refresh token cleanup (dry run): {} expired or revoked tokens", candidates);
+            return candidates;
+        }
+        long total = 0;
+        for (int chunk = 0; chunk < maxChunks; chunk++) {
+            Integer deleted = transactionTemplate.execute(status -> {
+                List<Long> ids = refreshTokenRepository.findExpiredOrRevokedIds(now, PageRequest.of(0, chunkSize));
+                return ids.isEmpty() ? 0 : refreshTokenRepository.deleteExpiredOrRevoked(ids, now);
+            });
+            if (deleted == null || deleted == 0) {
+                break;
+            }
+            total += deleted;
+            purged.increment(deleted);
+        }
+        log.info("Refresh token cleanup: deleted {} expired or revoked tokens", total);
+        return total;
+    }
+}
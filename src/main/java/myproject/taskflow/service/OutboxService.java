@@ -0,0 +1,14 @@
+package myproject.taskflow.service;
+
+import myproject.taskflow.enums.DomainEventType;
+
+public interface OutboxService {
+    /**
+     * Stores the event in the outbox as part of the caller's transaction, which must exist;
+     * it is delivered once that transaction commits and never if it rolls back.
+     *
+     * @param aggregateId the task or team, null for events that span many tasks
+     * @param payload     serialized as JSON
+     */
+    void record(DomainEventType type, Long aggregateId, Object payload);
+}
@@ -1,9 +1,12 @@
 package myproject.taskflow.service;
 
 import myproject.taskflow.dto.response.RefreshTokenResponse;
+import myproject.taskflow.entities.RefreshToken;
 import myproject.taskflow.entities.User;
 
 public interface RefreshTokenService {
    String createRefreshToken(User user);
+   RefreshToken getValidToken(String refreshToken);
+   void revoke(String refreshToken);
 
 }
@@ -0,0 +1,17 @@
+package myproject.taskflow.service;
+
+import myproject.taskflow.dto.request.TaskFilter;
+
+import java.util.Set;
+
+public interface TaskCategoryService {
+    /**
+     * @return the dictionary id of the category, created on first use; null for a blank category
+     */
+    Integer resolve(String category);
+
+    /**
+     * @return ids matching the exact and prefix category criteria of the filter, or null when it has neither
+     */
+    Set<Integer> matching(TaskFilter filter);
+}
@@ -0,0 +1,21 @@
+package myproject.taskflow.service;
+
+import myproject.taskflow.enums.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Fires a TaskDeadlineEvent when an open task reaches its reminder time and its deadline.
+ * Changes are applied once the surrounding transaction commits.
+ */
+public interface TaskDeadlineService {
+    // replaces whatever was scheduled for the task
+    void taskChanged(Long taskId, TaskStatus status, LocalDateTime deadline);
+
+    void taskDeleted(Long taskId);
+
+    /**
+     * Deadlines were changed in a way that cannot be expressed per task (bulk updates, imports).
+     */
+    void markStale();
+}
@@ -0,0 +1,13 @@
+package myproject.taskflow.service;
+
+import myproject.taskflow.dto.request.TaskFilter;
+import myproject.taskflow.enums.TaskDataFormat;
+
+import java.io.OutputStream;
+
+public interface TaskExportService {
+    /**
+     * @return number of exported tasks
+     */
+    long exportTasks(TaskFilter filter, TaskDataFormat format, OutputStream output);
+}
@@ -0,0 +1,10 @@
+package myproject.taskflow.service;
+
+import myproject.taskflow.dto.response.TaskImportResponse;
+import myproject.taskflow.enums.TaskDataFormat;
+
+import java.io.InputStream;
+
+public interface TaskImportService {
+    TaskImportResponse importTasks(InputStream input, TaskDataFormat format);
+}
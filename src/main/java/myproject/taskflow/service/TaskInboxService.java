@@ -0,0 +1,24 @@
+package myproject.taskflow.service;
+
+import myproject.taskflow.dto.response.TaskInboxResponse;
+import myproject.taskflow.entities.Task;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Open tasks of the current user ordered by deadline, served from task_inbox. Every task
+ * write updates that table in its own transaction, so the inbox never reads tasks.
+ */
+public interface TaskInboxService {
+    List<TaskInboxResponse> getInbox(int limit);
+
+    void taskSaved(Task task);
+
+    /**
+     * Tasks changed by statements that bypass the entity; their rows are copied again from tasks.
+     */
+    void tasksChanged(Collection<Long> taskIds);
+
+    void assigneeChanged(Long assigneeId);
+}
@@ -1,21 +1,35 @@
 package myproject.taskflow.service;
 
+import myproject.taskflow.dto.request.BulkReassignRequest;
+import myproject.taskflow.dto.request.BulkStatusRequest;
 import myproject.taskflow.dto.request.TaskFilter;
 import myproject.taskflow.dto.request.TaskRequest;
 import myproject.taskflow.dto.request.TaskUpdateRequest;
+import myproject.taskflow.dto.response.BulkUpdateResponse;
 import myproject.taskflow.dto.response.SimpleResponse;
+import myproject.taskflow.dto.response.TaskCursorPage;
 import myproject.taskflow.dto.response.TaskResponse;
+import myproject.taskflow.enums.TaskField;
+import myproject.taskflow.enums.TaskPageMode;
 import myproject.taskflow.enums.TaskStatus;
 import org.springframework.boot.autoconfigure.task.TaskExecutionProperties;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import java.util.Set;
 
 public interface TaskService {
     TaskResponse createTask(TaskRequest taskRequest);
     Page<TaskResponse> getTasks(TaskFilter filter, Pageable pageable);
+    Slice<TaskResponse> getTasks(TaskFilter filter, Pageable pageable, TaskPageMode mode);
+    Slice<TaskResponse> getTasks(TaskFilter filter, Pageable pageable, TaskPageMode mode, Set<TaskField> fields);
+    TaskCursorPage getTasksAfter(TaskFilter filter, String cursor, int size, String sortBy, String sortDir);
     TaskResponse getTask(Long id);
     SimpleResponse updateTask(Long id, TaskUpdateRequest taskUpdateRequest);
     SimpleResponse deleteTask(Long id);
     SimpleResponse changeTaskStatus(Long id, TaskStatus taskStatus);
     SimpleResponse assignTaskToAnotherPerson(Long taskId, Long studentId);
+    BulkUpdateResponse changeTaskStatusBulk(BulkStatusRequest request);
+    BulkUpdateResponse reassignTasks(BulkReassignRequest request);
 }
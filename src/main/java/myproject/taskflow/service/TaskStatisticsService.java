@@ -0,0 +1,18 @@
+package myproject.taskflow.service;
+
+import myproject.taskflow.dto.response.TaskStatisticsResponse;
+import myproject.taskflow.repositories.jpa.TaskState;
+
+public interface TaskStatisticsService {
+    TaskStatisticsResponse getStatistics();
+
+    /**
+     * Records a single task write; before is null for a created task, after is null for a deleted one.
+     */
+    void taskChanged(TaskState before, TaskState after);
+
+    /**
+     * Tasks were changed in a way that cannot be expressed per task (bulk updates, imports).
+     */
+    void markStale();
+}
@@ -10,7 +10,6 @@ import myproject.taskflow.dto.response.SimpleResponse;
 import myproject.taskflow.entities.RefreshToken;
 import myproject.taskflow.entities.User;
 import myproject.taskflow.enums.Role;
-import myproject.taskflow.repositories.jpa.RefreshTokenRepository;
 import myproject.taskflow.repositories.jpa.UserRepository;
 import myproject.taskflow.service.AuthService;
 import myproject.taskflow.service.RefreshTokenService;
@@ -18,22 +17,18 @@ import org.springframework.http.HttpStatus;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
-
 @Service
 public class AuthServiceImpl implements AuthService {
     private final PasswordEncoder passwordEncoder;
     private final UserRepository userRepository;
     private final JwtService jwtService;
     private final RefreshTokenService refreshTokenService;
-    private final RefreshTokenRepository refreshTokenRepository;
 
-    public AuthServiceImpl(PasswordEncoder passwordEncoder, UserRepository userRepository, JwtService jwtService, RefreshTokenService refreshTokenService, RefreshTokenRepository refreshTokenRepository) {
+    public AuthServiceImpl(PasswordEncoder passwordEncoder, UserRepository userRepository, JwtService jwtService, RefreshTokenService refreshTokenService) {
         this.passwordEncoder = passwordEncoder;
         this.userRepository = userRepository;
         this.jwtService = jwtService;
         this.refreshTokenService = refreshTokenService;
-        this.refreshTokenRepository = refreshTokenRepository;
     }
 
     @Override
@@ -61,6 +56,11 @@ public class AuthServiceImpl implements AuthService {
     public AuthResponse login(LoginRequest loginRequest) {
        User user =  userRepository.findUserByEmail(loginRequest.getEmail()).orElseThrow(()->new RuntimeException("User not found"));
        if(passwordEncoder.matches(loginRequest.getPassword(), user.getPassword())) {
+           if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+               // stored hash uses an older work factor, re-hash while we have the raw password
+               user.setPassword(passwordEncoder.encode(loginRequest.getPassword()));
+               userRepository.save(user);
+           }
            return new AuthResponse(user.getId(), user.getNickname(), user.getRole(),jwtService.generateToken(user),refreshTokenService.createRefreshToken(user));
        }
         throw new RuntimeException("Wrong password");
@@ -68,10 +68,7 @@ public class AuthServiceImpl implements AuthService {
 
     @Override
     public RefreshTokenResponse refreshAccessToken(String refreshToken) {
-        RefreshToken refToken = refreshTokenRepository.findByToken(refreshToken).orElseThrow(()->new RuntimeException("Refresh token not found"));
-        if (refToken.getExpiryDate().isBefore(LocalDateTime.now())|| refToken.getRevoked()){
-            throw new RuntimeException("Refresh token is not accessible");
-        }
+        RefreshToken refToken = refreshTokenService.getValidToken(refreshToken);
         User user = refToken.getUser();
         String accessToken = jwtService.generateToken(user);
         return new RefreshTokenResponse(refToken.getId(), user.getEmail(),accessToken);
@@ -79,9 +76,7 @@ public class AuthServiceImpl implements AuthService {
 
     @Override
     public LogOutResponse logout(String refreshToken) {
-        RefreshToken refToken = refreshTokenRepository.findByToken(refreshToken).orElseThrow(()->new RuntimeException("Refresh token not found"));
-        refToken.setRevoked(true);
-        refreshTokenRepository.save(refToken);
+        refreshTokenService.revoke(refreshToken);
         return new LogOutResponse("LogOut succesffully",HttpStatus.OK);
     }
 
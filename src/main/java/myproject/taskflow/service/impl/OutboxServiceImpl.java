@@ -0,0 +1,49 @@
+package myproject.taskflow.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import myproject.taskflow.entities.OutboxEvent;
+import myproject.taskflow.enums.DomainEventType;
+import myproject.taskflow.repositories.jpa.OutboxEventRepository;
+import myproject.taskflow.service.OutboxService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Service
+public class OutboxServiceImpl implements OutboxService {
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final Counter recorded;
+
+    public OutboxServiceImpl(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+        this.recorded = Counter.builder("taskflow.outbox.recorded")
+                .description("Domain events written to the outbox")
+                .register(meterRegistry);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Override
+    public void record(DomainEventType type, Long aggregateId, Object payload) {
+        OutboxEvent event = new OutboxEvent();
+        event.setAggregateType(type.getAggregate());
+        event.setAggregateId(aggregateId);
+        event.setEventType(type);
+        try {
+            event.setPayload(objectMapper.writeValueAsString(payload));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize " + type + " payload", e);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        event.setCreatedAt(now);
+        event.setAvailableAt(now);
+        outboxEventRepository.save(event);
+        recorded.increment();
+    }
+}
@@ -1,44 +1,115 @@
 package myproject.taskflow.service.impl;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import myproject.taskflow.entities.RefreshToken;
 import myproject.taskflow.entities.User;
 import myproject.taskflow.repositories.jpa.RefreshTokenRepository;
 import myproject.taskflow.service.RefreshTokenService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.UUID;
+import java.util.Base64;
+import java.util.HexFormat;
 
 @Service
 public class RefreshTokenServiceImpl implements RefreshTokenService {
+    static final Duration REFRESH_TOKEN_TTL = Duration.ofDays(7);
+
+    // new SecureRandom() is NativePRNG on Linux, whose instances all synchronize on one shared
+    // pool; DRBG instances keep their own state, so one per thread does not contend
+    private static final ThreadLocal<SecureRandom> RANDOM = ThreadLocal.withInitial(RefreshTokenServiceImpl::newRandom);
+
     private final RefreshTokenRepository refreshTokenRepository;
+    // hashes of tokens known to be revoked or expired, rejected without a database lookup
+    private final Cache<String, Boolean> rejectedTokens;
 
-    public RefreshTokenServiceImpl(RefreshTokenRepository refreshTokenRepository) {
+    public RefreshTokenServiceImpl(RefreshTokenRepository refreshTokenRepository,
+                                   @Value("${security.refresh-token.revocation-cache.max-size:100000}") long maxSize,
+                                   MeterRegistry meterRegistry) {
         this.refreshTokenRepository = refreshTokenRepository;
+        this.rejectedTokens = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(REFRESH_TOKEN_TTL)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, rejectedTokens, "refresh.token.revocations");
     }
 
     @Transactional
     @Override
     public String createRefreshToken(User user) {
-        RefreshToken refreshToken = refreshTokenRepository.findByUserId(user.getId())
+        String rawToken = generateToken();
+        String tokenHash = hash(rawToken);
+        refreshTokenRepository.findByUserId(user.getId())
                 .map(token -> {
-                    token.setExpiryDate(LocalDateTime.now().plusDays(7));
-                    token.setToken(UUID.randomUUID().toString());
+                    rejectedTokens.put(token.getTokenHash(), Boolean.TRUE);
+                    token.setExpiryDate(LocalDateTime.now().plus(REFRESH_TOKEN_TTL));
+                    token.setTokenHash(tokenHash);
+                    token.setRevoked(false);
                     return token;
                 })
-                .orElseGet(() -> {
-                    RefreshToken token = new RefreshToken();
-                    token.setUser(user);
-                    token.setExpiryDate(LocalDateTime.now().plusDays(7));
-                    token.setToken(UUID.randomUUID().toString());
-                    return refreshTokenRepository.save(token);
-                });
-        return refreshToken.getToken();
+                .orElseGet(() -> refreshTokenRepository.save(
+                        new RefreshToken(user, tokenHash, LocalDateTime.now().plus(REFRESH_TOKEN_TTL))));
+        return rawToken;
     }
 
+    @Override
+    public RefreshToken getValidToken(String refreshToken) {
+        String tokenHash = hash(refreshToken);
+        if (rejectedTokens.getIfPresent(tokenHash) != null) {
+            throw new RuntimeException("Refresh token is not accessible");
+        }
+        RefreshToken refToken = refreshTokenRepository.findByTokenHash(tokenHash).orElseThrow(() -> new RuntimeException("Refresh token not found"));
+        if (refToken.getExpiryDate().isBefore(LocalDateTime.now()) || refToken.getRevoked()) {
+            rejectedTokens.put(tokenHash, Boolean.TRUE);
+            throw new RuntimeException("Refresh token is not accessible");
+        }
+        return refToken;
+    }
 
+    @Transactional
+    @Override
+    public void revoke(String refreshToken) {
+        String tokenHash = hash(refreshToken);
+        if (rejectedTokens.getIfPresent(tokenHash) != null) {
+            return;
+        }
+        RefreshToken refToken = refreshTokenRepository.findByTokenHash(tokenHash).orElseThrow(() -> new RuntimeException("Refresh token not found"));
+        refToken.setRevoked(true);
+        refreshTokenRepository.save(refToken);
+        rejectedTokens.put(tokenHash, Boolean.TRUE);
+    }
 
+    private static String generateToken() {
+        byte[] bytes = new byte[32];
+        RANDOM.get().nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
 
+    private static SecureRandom newRandom() {
+        try {
+            return SecureRandom.getInstance("DRBG");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 
+    static String hash(String rawToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(rawToken.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
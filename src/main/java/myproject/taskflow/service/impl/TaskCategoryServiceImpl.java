@@ -0,0 +1,126 @@
+package myproject.taskflow.service.impl;
+
+import jakarta.annotation.PostConstruct;
+import myproject.taskflow.dto.request.TaskFilter;
+import myproject.taskflow.entities.TaskCategory;
+import myproject.taskflow.repositories.jpa.TaskCategoryRepository;
+import myproject.taskflow.service.TaskCategoryService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Keeps the whole task_categories dictionary in a sorted in-memory map. Exact category
+ * filters turn into one id and prefix filters into the ids of a contiguous key range,
+ * so the task query compares an indexed integer column instead of running LIKE.
+ * Names added by other instances are found on an exact-match miss and picked up by
+ * the periodic reload for prefix matches.
+ */
+@Service
+public class TaskCategoryServiceImpl implements TaskCategoryService {
+    private static final int MAX_NAME_LENGTH = 50;
+
+    private final TaskCategoryRepository taskCategoryRepository;
+    private final TransactionTemplate newTransaction;
+    private final NavigableMap<String, Integer> ids = new ConcurrentSkipListMap<>();
+
+    @Value("${tasks.categories.max-prefix-matches:1000}")
+    private int maxPrefixMatches;
+
+    public TaskCategoryServiceImpl(TaskCategoryRepository taskCategoryRepository, PlatformTransactionManager transactionManager) {
+        this.taskCategoryRepository = taskCategoryRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        // a category must survive a rollback of the task that introduced it, or the cache would hand out a dead id
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${tasks.categories.reload-interval:PT5M}",
+            initialDelayString = "${tasks.categories.reload-interval:PT5M}")
+    public void reload() {
+        taskCategoryRepository.findAll().forEach(category -> ids.put(category.getName(), category.getId()));
+    }
+
+    @Override
+    public Integer resolve(String category) {
+        String name = canonical(category);
+        if (name == null) {
+            return null;
+        }
+        if (name.length() > MAX_NAME_LENGTH) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Category is longer than " + MAX_NAME_LENGTH + " characters");
+        }
+        Integer id = ids.get(name);
+        if (id == null) {
+            id = find(name).orElseGet(() -> create(name));
+            ids.put(name, id);
+        }
+        return id;
+    }
+
+    @Override
+    public Set<Integer> matching(TaskFilter filter) {
+        String exact = canonical(filter.getCategory());
+        String prefix = canonical(filter.getCategoryPrefix());
+        if (exact == null && prefix == null) {
+            return null;
+        }
+        Set<Integer> matches = null;
+        if (exact != null) {
+            Integer id = ids.get(exact);
+            if (id == null) {
+                id = find(exact).orElse(null);
+                if (id != null) {
+                    ids.put(exact, id);
+                }
+            }
+            matches = id != null ? new HashSet<>(Set.of(id)) : new HashSet<>();
+        }
+        if (prefix != null) {
+            Collection<Integer> range = ids.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values();
+            if (range.size() > maxPrefixMatches) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Category prefix matches too many categories");
+            }
+            if (matches == null) {
+                matches = new HashSet<>(range);
+            } else {
+                matches.retainAll(range);
+            }
+        }
+        return matches;
+    }
+
+    private Optional<Integer> find(String name) {
+        return taskCategoryRepository.findByName(name).map(TaskCategory::getId);
+    }
+
+    private Integer create(String name) {
+        try {
+            return newTransaction.execute(status -> taskCategoryRepository.saveAndFlush(new TaskCategory(name)).getId());
+        } catch (DataIntegrityViolationException e) {
+            // inserted concurrently by another request or instance
+            return find(name).orElseThrow(() -> e);
+        }
+    }
+
+    static String canonical(String category) {
+        if (category == null || category.isBlank()) {
+            return null;
+        }
+        return category.trim().toLowerCase(Locale.ROOT);
+    }
+}
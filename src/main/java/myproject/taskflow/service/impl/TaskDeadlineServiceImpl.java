@@ -0,0 +1,215 @@
+package myproject.taskflow.service.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import myproject.taskflow.enums.TaskDeadlineType;
+import myproject.taskflow.enums.TaskStatus;
+import myproject.taskflow.events.TaskDeadlineEvent;
+import myproject.taskflow.repositories.jdbc.TaskJdbcRepository;
+import myproject.taskflow.scheduling.DeadlineWheel;
+import myproject.taskflow.service.TaskDeadlineService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Keeps the reminder and overdue times of open tasks due within {@code tasks.deadlines.horizon}
+ * in a DeadlineWheel, so a tick only looks at what fires in it. Task writes reschedule their
+ * entries; the window is reloaded from the deadline index periodically, which also moves it
+ * forward, and after bulk writes. Nothing records when the application stopped, so deadlines
+ * that passed while it was down are only fired if they fall within
+ * {@code tasks.deadlines.startup-replay} before the first load; the ones fired before a short
+ * restart fire again.
+ */
+@Service
+public class TaskDeadlineServiceImpl implements TaskDeadlineService {
+    private static final Logger log = LoggerFactory.getLogger(TaskDeadlineServiceImpl.class);
+
+    private final TaskJdbcRepository taskJdbcRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration horizon;
+    private final Duration reminderLead;
+    private final Duration startupReplay;
+    private final DeadlineWheel wheel;
+    private final AtomicBoolean stale = new AtomicBoolean();
+    private final Object reloadLock = new Object();
+    private final Timer lag;
+    private final Map<TaskDeadlineType, Counter> fired = new EnumMap<>(TaskDeadlineType.class);
+    // writes that land while a reload reads the table, replayed on the reloaded wheel
+    private List<Consumer<DeadlineWheel>> changesDuringReload;
+    private boolean loaded;
+
+    public TaskDeadlineServiceImpl(TaskJdbcRepository taskJdbcRepository, ApplicationEventPublisher eventPublisher,
+                                   @Value("${tasks.deadlines.tick:PT5S}") Duration tick,
+                                   @Value("${tasks.deadlines.horizon:PT6H}") Duration horizon,
+                                   @Value("${tasks.deadlines.reminder-lead:PT1H}") Duration reminderLead,
+                                   @Value("${tasks.deadlines.startup-replay:PT0S}") Duration startupReplay,
+                                   MeterRegistry meterRegistry) {
+        this.taskJdbcRepository = taskJdbcRepository;
+        this.eventPublisher = eventPublisher;
+        this.horizon = horizon;
+        this.reminderLead = reminderLead;
+        this.startupReplay = startupReplay;
+        this.wheel = new DeadlineWheel(tick.toMillis(), (int) (horizon.toMillis() / tick.toMillis()) + 1, System.currentTimeMillis());
+        Gauge.builder("taskflow.tasks.deadlines.backlog", this, TaskDeadlineServiceImpl::backlog)
+                .description("Reminders and deadlines scheduled within the horizon")
+                .register(meterRegistry);
+        this.lag = Timer.builder("taskflow.tasks.deadlines.lag")
+                .description("Delay between a reminder or deadline and its event")
+                .register(meterRegistry);
+        for (TaskDeadlineType type : TaskDeadlineType.values()) {
+            fired.put(type, Counter.builder("taskflow.tasks.deadlines.fired")
+                    .description("Deadline events published")
+                    .tag("type", type.name())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    public void taskChanged(Long taskId, TaskStatus status, LocalDateTime deadline) {
+        afterCommit(wheel -> {
+            wheel.cancel(taskId);
+            if (!status.isClosed() && deadline != null) {
+                // a task created or moved inside the reminder window is reminded right away
+                schedule(wheel, taskId, deadline, true);
+            }
+        });
+    }
+
+    @Override
+    public void taskDeleted(Long taskId) {
+        afterCommit(wheel -> wheel.cancel(taskId));
+    }
+
+    @Override
+    public void markStale() {
+        stale.set(true);
+    }
+
+    @Scheduled(fixedRateString = "${tasks.deadlines.tick:PT5S}")
+    public void tick() {
+        if (stale.get()) {
+            reload();
+        }
+        advance(LocalDateTime.now());
+    }
+
+    public void advance(LocalDateTime now) {
+        List<DeadlineWheel.Entry> due = new ArrayList<>();
+        synchronized (this) {
+            wheel.advance(millis(now), due::add);
+        }
+        publish(due, now);
+    }
+
+    /**
+     * Replaces the wheel contents with the open deadlines of the next horizon; the query is
+     * one range scan of ix_tasks_deadline. Runs at startup and every reload interval.
+     */
+    @Scheduled(fixedDelayString = "${tasks.deadlines.reload-interval:PT10M}")
+    public void reload() {
+        reload(LocalDateTime.now());
+    }
+
+    public void reload(LocalDateTime now) {
+        // the scheduled reload and one started by a tick after a bulk write take turns
+        synchronized (reloadLock) {
+            boolean replay;
+            synchronized (this) {
+                stale.set(false);
+                changesDuringReload = new ArrayList<>();
+                replay = !loaded && !startupReplay.isZero();
+            }
+            Map<Long, LocalDateTime> deadlines;
+            try {
+                deadlines = taskJdbcRepository.findOpenDeadlines(replay ? now.minus(startupReplay) : now, now.plus(horizon).plus(reminderLead));
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    changesDuringReload = null;
+                }
+                stale.set(true);
+                throw e;
+            }
+            List<DeadlineWheel.Entry> due = new ArrayList<>();
+            synchronized (this) {
+                // the query starts at now, so whatever fell due since the last tick fires from the old contents
+                wheel.advance(millis(now), due::add);
+                wheel.clear();
+                // the first load after startup also fires what passed within the replay window
+                deadlines.forEach((taskId, deadline) -> schedule(wheel, taskId, deadline, replay));
+                changesDuringReload.forEach(change -> change.accept(wheel));
+                changesDuringReload = null;
+                loaded = true;
+            }
+            publish(due, now);
+            log.debug("Task deadlines reloaded: {} open tasks due within {}", deadlines.size(), horizon);
+        }
+    }
+
+    private void publish(List<DeadlineWheel.Entry> due, LocalDateTime now) {
+        long nowMillis = millis(now);
+        for (DeadlineWheel.Entry entry : due) {
+            lag.record(Duration.ofMillis(Math.max(0, nowMillis - entry.getFireAtMillis())));
+            fired.get(entry.getType()).increment();
+            try {
+                eventPublisher.publishEvent(new TaskDeadlineEvent(entry.getTaskId(), entry.getType(), entry.getDeadline()));
+            } catch (RuntimeException e) {
+                log.warn("Deadline listener failed for task {}", entry.getTaskId(), e);
+            }
+        }
+    }
+
+    private void schedule(DeadlineWheel wheel, Long taskId, LocalDateTime deadline, boolean catchUp) {
+        long deadlineMillis = millis(deadline);
+        wheel.schedule(taskId, TaskDeadlineType.OVERDUE, deadline, deadlineMillis, catchUp);
+        if (deadlineMillis > System.currentTimeMillis()) {
+            wheel.schedule(taskId, TaskDeadlineType.REMINDER, deadline, millis(deadline.minus(reminderLead)), catchUp);
+        }
+    }
+
+    // a rolled back write must not move the timers
+    private void afterCommit(Consumer<DeadlineWheel> change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(change);
+                }
+            });
+        } else {
+            apply(change);
+        }
+    }
+
+    private synchronized void apply(Consumer<DeadlineWheel> change) {
+        change.accept(wheel);
+        if (changesDuringReload != null) {
+            changesDuringReload.add(change);
+        }
+    }
+
+    private synchronized int backlog() {
+        return wheel.size();
+    }
+
+    private static long millis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,133 @@
+package myproject.taskflow.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import myproject.taskflow.dto.request.TaskFilter;
+import myproject.taskflow.dto.response.TaskResponse;
+import myproject.taskflow.enums.TaskDataFormat;
+import myproject.taskflow.enums.TaskStatus;
+import myproject.taskflow.repositories.jdbc.TaskJdbcRepository;
+import myproject.taskflow.service.TaskCategoryService;
+import myproject.taskflow.service.TaskExportService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Writes the tasks matching a filter row by row from a JDBC cursor, so heap use does not
+ * depend on the number of exported rows and no entities are loaded.
+ */
+@Service
+public class TaskExportServiceImpl implements TaskExportService {
+    private static final Logger log = LoggerFactory.getLogger(TaskExportServiceImpl.class);
+    private static final String CSV_HEADER = "id,title,description,status,priority,category,deadline,assigned_to,team_id,created_at";
+
+    private final TaskJdbcRepository taskJdbcRepository;
+    private final TaskCategoryService taskCategoryService;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectWriter rowWriter;
+    private final Counter exported;
+
+    @Value("${tasks.export.fetch-size:500}")
+    private int fetchSize;
+
+    public TaskExportServiceImpl(TaskJdbcRepository taskJdbcRepository, TaskCategoryService taskCategoryService,
+                                 PlatformTransactionManager transactionManager, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.taskJdbcRepository = taskJdbcRepository;
+        this.taskCategoryService = taskCategoryService;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.rowWriter = objectMapper.writerFor(TaskResponse.class);
+        this.exported = Counter.builder("taskflow.tasks.export.rows")
+                .description("Rows written by the task export")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public long exportTasks(TaskFilter filter, TaskDataFormat format, OutputStream output) {
+        Set<Integer> categoryIds = taskCategoryService.matching(filter);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        long[] rows = {0};
+        try {
+            if (format == TaskDataFormat.CSV) {
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+            }
+            // the transaction keeps the cursor open on PostgreSQL
+            readOnlyTransaction.executeWithoutResult(status -> taskJdbcRepository.streamMatching(filter, categoryIds, fetchSize, resultSet -> {
+                write(writer, format, toResponse(resultSet));
+                rows[0]++;
+            }));
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write task export", e);
+        }
+        exported.increment(rows[0]);
+        log.info("Task export finished: {} rows as {}", rows[0], format);
+        return rows[0];
+    }
+
+    private void write(Writer writer, TaskDataFormat format, TaskResponse task) {
+        try {
+            if (format == TaskDataFormat.NDJSON) {
+                writer.write(rowWriter.writeValueAsString(task));
+            } else {
+                writer.write(String.join(",",
+                        csv(task.getId()), csv(task.getTitle()), csv(task.getDescription()), csv(task.getStatus()),
+                        csv(task.getPriority()), csv(task.getCategory()), csv(task.getDeadline()), csv(task.getAssigned_to()),
+                        csv(task.getTeam_id()), csv(task.getCreated_at())));
+            }
+            writer.write('\n');
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize task " + task.getId(), e);
+        } catch (IOException e) {
+            // client went away, abort the query
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static TaskResponse toResponse(ResultSet resultSet) throws SQLException {
+        return new TaskResponse(
+                resultSet.getLong("id"),
+                resultSet.getString("title"),
+                resultSet.getString("description"),
+                TaskStatus.valueOf(resultSet.getString("status")),
+                resultSet.getObject("priority", Integer.class),
+                resultSet.getString("category"),
+                resultSet.getObject("deadline", LocalDateTime.class),
+                resultSet.getObject("assigned_to", Long.class),
+                resultSet.getObject("team_id", Long.class),
+                resultSet.getObject("created_at", LocalDateTime.class)
+        );
+    }
+
+    // quoted when needed, embedded quotes doubled (RFC 4180)
+    static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,368 @@
+package myproject.taskflow.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import myproject.taskflow.config.cache.TaskFilterCache;
+import myproject.taskflow.config.security.CurrentUser;
+import myproject.taskflow.dto.request.TaskImportRow;
+import myproject.taskflow.dto.response.TaskImportError;
+import myproject.taskflow.dto.response.TaskImportResponse;
+import myproject.taskflow.enums.DomainEventType;
+import myproject.taskflow.enums.TaskDataFormat;
+import myproject.taskflow.enums.TaskStatus;
+import myproject.taskflow.repositories.jdbc.TaskImportJdbcRepository;
+import myproject.taskflow.service.OutboxService;
+import myproject.taskflow.service.TaskCategoryService;
+import myproject.taskflow.service.TaskDeadlineService;
+import myproject.taskflow.service.TaskImportService;
+import myproject.taskflow.service.TaskInboxService;
+import myproject.taskflow.service.TaskStatisticsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Streams NDJSON or CSV task rows and writes them with JDBC batches, one transaction per
+ * chunk. Only the current chunk, a bounded id lookup cache and the first few error
+ * messages are kept in memory, so the footprint does not grow with the file.
+ */
+@Service
+public class TaskImportServiceImpl implements TaskImportService {
+    private static final Logger log = LoggerFactory.getLogger(TaskImportServiceImpl.class);
+    private static final int LOOKUP_CACHE_SIZE = 10_000;
+
+    private final TaskImportJdbcRepository taskImportJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectReader rowReader;
+    private final CurrentUser currentUser;
+    private final TaskCategoryService taskCategoryService;
+    private final TaskFilterCache taskFilterCache;
+    private final TaskStatisticsService taskStatisticsService;
+    private final TaskInboxService taskInboxService;
+    private final TaskDeadlineService taskDeadlineService;
+    private final OutboxService outboxService;
+    private final Counter imported;
+    private final Counter failed;
+
+    @Value("${tasks.import.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${tasks.import.max-reported-errors:100}")
+    private int maxReportedErrors;
+
+    public TaskImportServiceImpl(TaskImportJdbcRepository taskImportJdbcRepository, TransactionTemplate transactionTemplate,
+                                 ObjectMapper objectMapper, CurrentUser currentUser, TaskCategoryService taskCategoryService,
+                                 TaskFilterCache taskFilterCache, TaskStatisticsService taskStatisticsService,
+                                 TaskInboxService taskInboxService, TaskDeadlineService taskDeadlineService,
+                                 OutboxService outboxService, MeterRegistry meterRegistry) {
+        this.taskImportJdbcRepository = taskImportJdbcRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.rowReader = objectMapper.readerFor(TaskImportRow.class);
+        this.currentUser = currentUser;
+        this.taskCategoryService = taskCategoryService;
+        this.taskFilterCache = taskFilterCache;
+        this.taskStatisticsService = taskStatisticsService;
+        this.taskInboxService = taskInboxService;
+        this.taskDeadlineService = taskDeadlineService;
+        this.outboxService = outboxService;
+        this.imported = Counter.builder("taskflow.tasks.import.rows")
+                .description("Rows processed by the bulk task import")
+                .tag("result", "imported")
+                .register(meterRegistry);
+        this.failed = Counter.builder("taskflow.tasks.import.rows")
+                .description("Rows processed by the bulk task import")
+                .tag("result", "failed")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public TaskImportResponse importTasks(InputStream input, TaskDataFormat format) {
+        ImportRun run = new ImportRun(currentUser.getId());
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            List<String> header = null;
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (format == TaskDataFormat.CSV && header == null) {
+                    header = parseCsvHeader(line);
+                    continue;
+                }
+                run.processed++;
+                try {
+                    TaskImportRow row = format == TaskDataFormat.NDJSON
+                            ? rowReader.readValue(line)
+                            : toRow(header, parseCsvLine(line));
+                    run.add(lineNumber, row);
+                } catch (JsonProcessingException e) {
+                    run.fail(lineNumber, "Invalid JSON: " + e.getOriginalMessage());
+                } catch (IllegalArgumentException | DateTimeParseException e) {
+                    run.fail(lineNumber, e.getMessage());
+                }
+                if (run.pending.size() >= chunkSize) {
+                    flush(run);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read import stream", e);
+        }
+        flush(run);
+        log.info("Task import finished: {} rows processed, {} imported, {} failed", run.processed, run.imported, run.failed);
+        return new TaskImportResponse(run.processed, run.imported, run.failed, run.errors, run.failed > run.errors.size());
+    }
+
+    private void flush(ImportRun run) {
+        if (run.pending.isEmpty()) {
+            return;
+        }
+        resolveReferences(run);
+        List<TaskImportRow> rows = new ArrayList<>(run.pending.size());
+        List<TaskStatus> statuses = new ArrayList<>(run.pending.size());
+        List<Integer> categoryIds = new ArrayList<>(run.pending.size());
+        List<Long> lines = new ArrayList<>(run.pending.size());
+        for (PendingRow pending : run.pending) {
+            String error = checkReferences(run, pending.row);
+            if (error != null) {
+                run.fail(pending.line, error);
+                continue;
+            }
+            rows.add(pending.row);
+            statuses.add(pending.status);
+            // the dictionary is cached, new names cost one insert each
+            categoryIds.add(taskCategoryService.resolve(pending.row.getCategory()));
+            lines.add(pending.line);
+        }
+        run.pending.clear();
+        if (rows.isEmpty()) {
+            return;
+        }
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Long> ids = taskImportJdbcRepository.insertBatch(rows, statuses, categoryIds, now);
+                taskInboxService.tasksChanged(ids);
+                outboxService.record(DomainEventType.TASKS_IMPORTED, null, Map.of("ids", ids));
+            });
+            run.imported += rows.size();
+            imported.increment(rows.size());
+            taskFilterCache.changedAnywhere();
+            taskStatisticsService.markStale();
+            taskDeadlineService.markStale();
+        } catch (DataAccessException e) {
+            String message = "Chunk rejected by the database: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            for (Long line : lines) {
+                run.fail(line, message);
+            }
+        }
+    }
+
+    // one IN query per chunk for ids not seen before; known ids (present or missing) come from the cache
+    private void resolveReferences(ImportRun run) {
+        Set<Long> userIds = new HashSet<>();
+        Set<Long> teamIds = new HashSet<>();
+        for (PendingRow pending : run.pending) {
+            addIfUnknown(run.users, userIds, pending.row.getCreated_by());
+            addIfUnknown(run.users, userIds, pending.row.getAssigned_to());
+            addIfUnknown(run.teams, teamIds, pending.row.getTeam_id());
+        }
+        Set<Long> existingUsers = taskImportJdbcRepository.findExistingUserIds(userIds);
+        userIds.forEach(id -> run.users.put(id, existingUsers.contains(id)));
+        Set<Long> existingTeams = taskImportJdbcRepository.findExistingTeamIds(teamIds);
+        teamIds.forEach(id -> run.teams.put(id, existingTeams.contains(id)));
+    }
+
+    private static void addIfUnknown(Cache<Long, Boolean> cache, Set<Long> unknown, Long id) {
+        if (id != null && cache.getIfPresent(id) == null) {
+            unknown.add(id);
+        }
+    }
+
+    private static String checkReferences(ImportRun run, TaskImportRow row) {
+        if (!exists(run.users, row.getCreated_by())) {
+            return "Creator not found: " + row.getCreated_by();
+        }
+        if (row.getAssigned_to() != null && !exists(run.users, row.getAssigned_to())) {
+            return "Assigned user not found: " + row.getAssigned_to();
+        }
+        if (row.getTeam_id() != null && !exists(run.teams, row.getTeam_id())) {
+            return "Team not found: " + row.getTeam_id();
+        }
+        return null;
+    }
+
+    private static boolean exists(Cache<Long, Boolean> cache, Long id) {
+        // entries evicted between resolve and check are treated as present; the FK still guards the insert
+        return !Boolean.FALSE.equals(cache.getIfPresent(id));
+    }
+
+    private static List<String> parseCsvHeader(String line) {
+        List<String> header = parseCsvLine(line);
+        for (String column : header) {
+            if (!List.of("title", "description", "status", "priority", "category", "deadline",
+                    "assigned_to", "created_by", "team_id").contains(column)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown CSV column: " + column);
+            }
+        }
+        return header;
+    }
+
+    private static TaskImportRow toRow(List<String> header, List<String> values) {
+        if (values.size() != header.size()) {
+            throw new IllegalArgumentException("Expected " + header.size() + " columns but found " + values.size());
+        }
+        TaskImportRow row = new TaskImportRow();
+        for (int i = 0; i < header.size(); i++) {
+            String value = values.get(i).isEmpty() ? null : values.get(i);
+            if (value == null) {
+                continue;
+            }
+            switch (header.get(i)) {
+                case "title" -> row.setTitle(value);
+                case "description" -> row.setDescription(value);
+                case "status" -> row.setStatus(value);
+                case "priority" -> row.setPriority(Integer.valueOf(value));
+                case "category" -> row.setCategory(value);
+                case "deadline" -> row.setDeadline(LocalDateTime.parse(value));
+                case "assigned_to" -> row.setAssigned_to(Long.valueOf(value));
+                case "created_by" -> row.setCreated_by(Long.valueOf(value));
+                case "team_id" -> row.setTeam_id(Long.valueOf(value));
+                default -> throw new IllegalStateException(header.get(i));
+            }
+        }
+        return row;
+    }
+
+    /**
+     * Splits one CSV record; fields may be quoted with {@code ""} as an escaped quote.
+     * Quoted fields spanning several lines are not supported.
+     */
+    static List<String> parseCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString().trim());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        values.add(current.toString().trim());
+        return values;
+    }
+
+    private static TaskStatus validate(TaskImportRow row) {
+        // an NDJSON line holding just null reads as no row
+        if (row == null) {
+            throw new IllegalArgumentException("Row must be a JSON object");
+        }
+        if (row.getTitle() == null || row.getTitle().isBlank()) {
+            throw new IllegalArgumentException("Title is required");
+        }
+        if (row.getTitle().length() > 100) {
+            throw new IllegalArgumentException("Title is longer than 100 characters");
+        }
+        if (row.getPriority() == null) {
+            throw new IllegalArgumentException("Priority is required");
+        }
+        if (row.getCategory() != null && row.getCategory().length() > 50) {
+            throw new IllegalArgumentException("Category is longer than 50 characters");
+        }
+        if (row.getStatus() == null) {
+            return TaskStatus.NEW;
+        }
+        try {
+            return TaskStatus.valueOf(row.getStatus().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown status: " + row.getStatus());
+        }
+    }
+
+    private final class ImportRun {
+        private final Long importerId;
+        private final List<PendingRow> pending = new ArrayList<>();
+        private final List<TaskImportError> errors = new ArrayList<>();
+        private final Cache<Long, Boolean> users = Caffeine.newBuilder().maximumSize(LOOKUP_CACHE_SIZE).build();
+        private final Cache<Long, Boolean> teams = Caffeine.newBuilder().maximumSize(LOOKUP_CACHE_SIZE).build();
+        private long processed;
+        private long imported;
+        private long failed;
+
+        ImportRun(Long importerId) {
+            this.importerId = importerId;
+        }
+
+        void add(long line, TaskImportRow row) {
+            TaskStatus status = validate(row);
+            if (row.getCreated_by() == null) {
+                row.setCreated_by(importerId);
+            }
+            pending.add(new PendingRow(line, row, status));
+        }
+
+        void fail(long line, String message) {
+            failed++;
+            TaskImportServiceImpl.this.failed.increment();
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new TaskImportError(line, message));
+            }
+        }
+    }
+
+    private static final class PendingRow {
+        private final long line;
+        private final TaskImportRow row;
+        private final TaskStatus status;
+
+        PendingRow(long line, TaskImportRow row, TaskStatus status) {
+            this.line = line;
+            this.row = row;
+            this.status = status;
+        }
+    }
+}
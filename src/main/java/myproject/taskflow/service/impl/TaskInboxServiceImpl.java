@@ -0,0 +1,62 @@
+package myproject.taskflow.service.impl;
+
+import myproject.taskflow.config.security.CurrentUser;
+import myproject.taskflow.dto.response.TaskInboxResponse;
+import myproject.taskflow.entities.Task;
+import myproject.taskflow.entities.TaskInboxEntry;
+import myproject.taskflow.repositories.jdbc.TaskInboxJdbcRepository;
+import myproject.taskflow.service.TaskInboxService;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Collection;
+import java.util.List;
+
+@Service
+public class TaskInboxServiceImpl implements TaskInboxService {
+    private static final int MAX_LIMIT = 100;
+
+    private final TaskInboxJdbcRepository taskInboxJdbcRepository;
+    private final CurrentUser currentUser;
+
+    public TaskInboxServiceImpl(TaskInboxJdbcRepository taskInboxJdbcRepository, CurrentUser currentUser) {
+        this.taskInboxJdbcRepository = taskInboxJdbcRepository;
+        this.currentUser = currentUser;
+    }
+
+    @Override
+    public List<TaskInboxResponse> getInbox(int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Limit must be between 1 and " + MAX_LIMIT);
+        }
+        return taskInboxJdbcRepository.findTop(currentUser.getId(), limit);
+    }
+
+    // built from the entity, the task row may not be flushed yet
+    @Override
+    public void taskSaved(Task task) {
+        if (task.getAssignedTo() == null || task.getStatus().isClosed()) {
+            taskInboxJdbcRepository.replace(task.getId(), null);
+            return;
+        }
+        TaskInboxEntry entry = new TaskInboxEntry();
+        entry.setTaskId(task.getId());
+        entry.setAssigneeId(task.getAssignedTo().getId());
+        entry.setTitle(task.getTitle());
+        entry.setStatus(task.getStatus());
+        entry.setPriority(task.getPriority());
+        entry.setDeadline(task.getDeadline());
+        taskInboxJdbcRepository.replace(task.getId(), entry);
+    }
+
+    @Override
+    public void tasksChanged(Collection<Long> taskIds) {
+        taskInboxJdbcRepository.refresh(taskIds);
+    }
+
+    @Override
+    public void assigneeChanged(Long assigneeId) {
+        taskInboxJdbcRepository.refreshAssignee(assigneeId);
+    }
+}
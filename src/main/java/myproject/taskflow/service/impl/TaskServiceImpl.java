@@ -1,41 +1,96 @@
 package myproject.taskflow.service.impl;
 
+import myproject.taskflow.config.cache.TaskFilterCache;
+import myproject.taskflow.config.cache.TaskResponseCache;
+import myproject.taskflow.config.security.CurrentUser;
+import myproject.taskflow.dto.request.BulkReassignRequest;
+import myproject.taskflow.dto.request.BulkStatusRequest;
 import myproject.taskflow.dto.request.TaskFilter;
 import myproject.taskflow.dto.request.TaskRequest;
 import myproject.taskflow.dto.request.TaskUpdateRequest;
+import myproject.taskflow.dto.response.BulkUpdateResponse;
+import myproject.taskflow.dto.response.EstimatedPage;
 import myproject.taskflow.dto.response.SimpleResponse;
+import myproject.taskflow.dto.response.TaskCursorPage;
 import myproject.taskflow.dto.response.TaskResponse;
 import myproject.taskflow.entities.Task;
 import myproject.taskflow.entities.User;
+import myproject.taskflow.enums.DomainEventType;
+import myproject.taskflow.enums.TaskField;
+import myproject.taskflow.enums.TaskPageMode;
 import myproject.taskflow.enums.TaskStatus;
+import myproject.taskflow.repositories.jdbc.TaskJdbcRepository;
 import myproject.taskflow.repositories.jpa.TaskRepository;
+import myproject.taskflow.repositories.jpa.TaskState;
 import myproject.taskflow.repositories.jpa.TeamRepository;
 import myproject.taskflow.repositories.jpa.UserRepository;
+import myproject.taskflow.service.OutboxService;
+import myproject.taskflow.service.TaskCategoryService;
+import myproject.taskflow.service.TaskDeadlineService;
+import myproject.taskflow.service.TaskInboxService;
 import myproject.taskflow.service.TaskService;
+import myproject.taskflow.service.TaskStatisticsService;
+import myproject.taskflow.specification.TaskKeyset;
 import myproject.taskflow.specification.TaskSpecification;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.AccessDeniedException;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 @Service
 public class TaskServiceImpl implements TaskService {
+    // ids per UPDATE ... WHERE id IN (...) statement
+    private static final int BULK_BATCH_SIZE = 1000;
+    private static final int MAX_CURSOR_PAGE_SIZE = 1000;
+
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
     private final TeamRepository teamRepository;
-
-    public TaskServiceImpl(TaskRepository taskRepository, UserRepository userRepository, UserRepository userRepository1, TeamRepository teamRepository) {
+    private final CurrentUser currentUser;
+    private final TaskJdbcRepository taskJdbcRepository;
+    private final TaskCategoryService taskCategoryService;
+    private final TaskResponseCache taskResponseCache;
+    private final TaskFilterCache taskFilterCache;
+    private final TaskStatisticsService taskStatisticsService;
+    private final TaskInboxService taskInboxService;
+    private final TaskDeadlineService taskDeadlineService;
+    private final OutboxService outboxService;
+
+    public TaskServiceImpl(TaskRepository taskRepository, UserRepository userRepository, UserRepository userRepository1, TeamRepository teamRepository, CurrentUser currentUser, TaskJdbcRepository taskJdbcRepository,
+                           TaskCategoryService taskCategoryService, TaskResponseCache taskResponseCache, TaskFilterCache taskFilterCache,
+                           TaskStatisticsService taskStatisticsService, TaskInboxService taskInboxService,
+                           TaskDeadlineService taskDeadlineService, OutboxService outboxService) {
         this.taskRepository = taskRepository;
         this.userRepository = userRepository1;
         this.teamRepository = teamRepository;
+        this.currentUser = currentUser;
+        this.taskJdbcRepository = taskJdbcRepository;
+        this.taskCategoryService = taskCategoryService;
+        this.taskResponseCache = taskResponseCache;
+        this.taskFilterCache = taskFilterCache;
+        this.taskStatisticsService = taskStatisticsService;
+        this.taskInboxService = taskInboxService;
+        this.taskDeadlineService = taskDeadlineService;
+        this.outboxService = outboxService;
     }
 
+    @Transactional
     @Override
     public TaskResponse createTask(TaskRequest taskRequest) {
-        String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        User createdByUser = userRepository.findUserByEmail(email).orElseThrow(() -> new RuntimeException("User not found"));
+        User createdByUser = userRepository.getReferenceById(currentUser.getId());
         User assignedTo = userRepository.findById(taskRequest.getAssigned_to())
                 .orElseThrow(() -> new RuntimeException("Assigned user not found"));
 
@@ -45,11 +100,19 @@ public class TaskServiceImpl implements TaskService {
         task.setPriority(taskRequest.getPriority());
         task.setStatus(TaskStatus.NEW);
         task.setCategory(taskRequest.getCategory());
+        task.setCategoryId(taskCategoryService.resolve(taskRequest.getCategory()));
         task.setDeadline(taskRequest.getDeadline());
         task.setAssignedTo(assignedTo);
         task.setCreatedBy(createdByUser);
 
         Task savedTask = taskRepository.save(task);
+        taskFilterCache.changed(teamIdOf(savedTask));
+        taskStatisticsService.taskChanged(null, TaskState.of(savedTask));
+        taskInboxService.taskSaved(savedTask);
+        if (savedTask.getDeadline() != null) {
+            taskDeadlineService.taskChanged(savedTask.getId(), savedTask.getStatus(), savedTask.getDeadline());
+        }
+        outboxService.record(DomainEventType.TASK_CREATED, savedTask.getId(), TaskState.of(savedTask));
 
         return new TaskResponse(
                 savedTask.getId(),
@@ -67,52 +130,90 @@ public class TaskServiceImpl implements TaskService {
 
     @Override
     public Page<TaskResponse> getTasks(TaskFilter filter, Pageable pageable) {
-        TaskSpecification specification = new TaskSpecification(filter);
+        TaskSpecification specification = new TaskSpecification(filter, taskCategoryService.matching(filter));
         Page<Task> tasks = taskRepository.findAll(specification,pageable);
-        return tasks.map(task -> new TaskResponse(
-                task.getId(),
-                task.getTitle(),
-                task.getDescription(),
-                task.getStatus(),
-                task.getPriority(),
-                task.getCategory(),
-                task.getDeadline(),
-                task.getAssignedTo() != null ? task.getAssignedTo().getId() : null,
-                task.getCreatedAt()
-        ));
+        return tasks.map(TaskServiceImpl::toResponse);
+    }
+
+    @Override
+    public Slice<TaskResponse> getTasks(TaskFilter filter, Pageable pageable, TaskPageMode mode) {
+        return taskFilterCache.get(filter, pageable, mode, null, () -> loadTasks(filter, pageable, mode));
+    }
+
+    @Override
+    public Slice<TaskResponse> getTasks(TaskFilter filter, Pageable pageable, TaskPageMode mode, Set<TaskField> fields) {
+        if (fields == null || fields.isEmpty()) {
+            return getTasks(filter, pageable, mode);
+        }
+        return taskFilterCache.get(filter, pageable, mode, fields, () -> loadTasks(filter, pageable, mode, fields));
+    }
+
+    private Slice<TaskResponse> loadTasks(TaskFilter filter, Pageable pageable, TaskPageMode mode) {
+        if (mode == TaskPageMode.PAGE) {
+            return getTasks(filter, pageable);
+        }
+        Set<Integer> categoryIds = taskCategoryService.matching(filter);
+        Slice<TaskResponse> slice = taskRepository.findSlice(new TaskSpecification(filter, categoryIds), pageable).map(TaskServiceImpl::toResponse);
+        return mode == TaskPageMode.SLICE ? slice : estimated(filter, categoryIds, slice);
+    }
+
+    private Slice<TaskResponse> loadTasks(TaskFilter filter, Pageable pageable, TaskPageMode mode, Set<TaskField> fields) {
+        Set<Integer> categoryIds = taskCategoryService.matching(filter);
+        TaskSpecification specification = new TaskSpecification(filter, categoryIds);
+        if (mode == TaskPageMode.PAGE) {
+            List<TaskResponse> content = taskRepository.findProjected(specification, pageable.getSort(),
+                    pageable.getOffset(), pageable.getPageSize(), fields);
+            // no COUNT when the first page is not full
+            return PageableExecutionUtils.getPage(content, pageable, () -> taskRepository.count(specification));
+        }
+        List<TaskResponse> rows = taskRepository.findProjected(specification, pageable.getSort(),
+                pageable.getOffset(), pageable.getPageSize() + 1, fields);
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        Slice<TaskResponse> slice = new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+        return mode == TaskPageMode.SLICE ? slice : estimated(filter, categoryIds, slice);
+    }
+
+    // the last page knows its exact total; otherwise the estimate must at least cover what was seen
+    private EstimatedPage<TaskResponse> estimated(TaskFilter filter, Set<Integer> categoryIds, Slice<TaskResponse> slice) {
+        Pageable pageable = slice.getPageable();
+        long seen = pageable.getOffset() + slice.getNumberOfElements();
+        long total = slice.hasNext() ? Math.max(taskJdbcRepository.estimateCount(filter, categoryIds), seen + 1) : seen;
+        return new EstimatedPage<>(slice.getContent(), pageable, total);
+    }
+
+    @Override
+    public TaskCursorPage getTasksAfter(TaskFilter filter, String cursor, int size, String sortBy, String sortDir) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Size must be between 1 and " + MAX_CURSOR_PAGE_SIZE);
+        }
+        TaskKeyset keyset = cursor != null ? TaskKeyset.decode(cursor) : TaskKeyset.first(sortBy, sortDir);
+        Specification<Task> specification = Specification.where(new TaskSpecification(filter, taskCategoryService.matching(filter))).and(keyset.after());
+        // one extra row tells whether another page exists
+        List<Task> tasks = taskRepository.findSlice(specification, keyset.sort(), size + 1);
+        boolean hasNext = tasks.size() > size;
+        List<Task> page = hasNext ? tasks.subList(0, size) : tasks;
+        List<TaskResponse> content = page.stream().map(TaskServiceImpl::toResponse).toList();
+        return new TaskCursorPage(content, hasNext ? keyset.next(page.get(page.size() - 1)) : null);
     }
 
     @Override
     public TaskResponse getTask(Long id) {
-        Task task = taskRepository.findById(id).orElseThrow(() -> new RuntimeException("Task not found"));
-        return new TaskResponse(
-                task.getId(),
-                task.getTitle(),
-                task.getDescription(),
-                task.getStatus(),
-                task.getPriority(),
-                task.getCategory(),
-                task.getDeadline(),
-                task.getAssignedTo() != null ? task.getAssignedTo().getId() : null,
-                task.getCreatedAt()
-        );
+        return taskResponseCache.get(id, key -> taskRepository.findById(key)
+                .map(TaskServiceImpl::toResponse)
+                .orElseThrow(() -> new RuntimeException("Task not found")));
     }
 
+    @Transactional
     @Override
     public SimpleResponse updateTask(Long id, TaskUpdateRequest taskUpdateRequest) {
-        Task task = taskRepository.findById(id)
+        Task task = taskRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new RuntimeException("Task not found"));
 
-        String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        User currentUser = userRepository.findUserByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
         boolean isOwner = currentUser.getId().equals(task.getCreatedBy().getId());
 
         boolean isAssigned = task.getAssignedTo() != null && currentUser.getId().equals(task.getAssignedTo().getId());
 
-        boolean isManagerOrHigher = currentUser.getAuthorities().stream()
-                .anyMatch(auth -> auth.getAuthority().equals("ROLE_MANAGER") || auth.getAuthority().equals("ROLE_ADMIN"));
+        boolean isManagerOrHigher = currentUser.isManagerOrAdmin();
 
         if (!isOwner && !isAssigned && !isManagerOrHigher) {
             throw new AccessDeniedException("You don't have permission to manage this task");
@@ -121,74 +222,190 @@ public class TaskServiceImpl implements TaskService {
         User assignedUser = userRepository.findById(taskUpdateRequest.getAssignedToId())
                 .orElseThrow(() -> new RuntimeException("Assigned user not found"));
 
+        TaskState before = TaskState.of(task);
         task.setTitle(taskUpdateRequest.getTitle());
         task.setDescription(taskUpdateRequest.getDescription());
         task.setStatus(taskUpdateRequest.getStatus());
         task.setPriority(taskUpdateRequest.getPriority());
         task.setCategory(taskUpdateRequest.getCategory());
+        task.setCategoryId(taskCategoryService.resolve(taskUpdateRequest.getCategory()));
         task.setAssignedTo(assignedUser);
         task.setDeadline(taskUpdateRequest.getDeadline());
 
         taskRepository.save(task);
+        taskResponseCache.evict(id);
+        taskFilterCache.changed(teamIdOf(task));
+        taskStatisticsService.taskChanged(before, TaskState.of(task));
+        taskInboxService.taskSaved(task);
+        // rescheduling an unchanged deadline would repeat a reminder that already fired
+        if (!Objects.equals(before.getDeadline(), task.getDeadline()) || before.getStatus().isClosed() != task.getStatus().isClosed()) {
+            taskDeadlineService.taskChanged(id, task.getStatus(), task.getDeadline());
+        }
+        outboxService.record(DomainEventType.TASK_UPDATED, id, TaskState.of(task));
 
         return new SimpleResponse("Updated successfully!", HttpStatus.OK);
     }
 
 
+    @Transactional
     @Override
     public SimpleResponse deleteTask(Long id) {
-        Task task = taskRepository.findById(id).orElseThrow(() -> new RuntimeException("Task not found"));
-        String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        User currentUser = userRepository.findUserByEmail(email).orElseThrow(() -> new RuntimeException("User not found"));
-
-        boolean isOwner = currentUser.getId().equals(task.getCreatedBy().getId());
-        boolean isManagerOrAdmin = currentUser.getAuthorities().stream().anyMatch(auth -> auth.getAuthority().equals("ROLE_ADMIN")|| auth.getAuthority().equals("ROLE_MANAGER"));
-        if (!isOwner && !isManagerOrAdmin) {
-            throw new AccessDeniedException("You don't have permission to manage this task");
+        TaskState before = taskJdbcRepository.deleteIfPermitted(id, currentUser.getId(), currentUser.isManagerOrAdmin()).orElse(null);
+        taskResponseCache.evict(id);
+        if (before == null) {
+            throw taskNotFoundOrDenied(id);
         }
-
-        taskRepository.delete(task);
+        taskChanged(before, null);
+        taskInboxService.tasksChanged(List.of(id));
+        taskDeadlineService.taskDeleted(id);
+        outboxService.record(DomainEventType.TASK_DELETED, id, Map.of());
         return new SimpleResponse("Successfully Deleted!", HttpStatus.OK);
     }
 
+    @Transactional
     @Override
     public SimpleResponse changeTaskStatus(Long id, TaskStatus taskStatus) {
-        Task task = taskRepository.findById(id).orElseThrow(() -> new RuntimeException("Task not found"));
-        String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        User currentUser = userRepository.findUserByEmail(email).orElseThrow(() -> new RuntimeException("User not found"));
-
-        boolean isOwner = currentUser.getId().equals(task.getCreatedBy().getId());
-        boolean isAssigned = task.getAssignedTo() != null && currentUser.getId().equals(task.getAssignedTo().getId());
-        boolean isManagerOrHigher = currentUser.getAuthorities().stream()
-                .anyMatch(authority -> authority.getAuthority().equals("ROLE_MANAGER") || authority.getAuthority().equals("ROLE_ADMIN"));
-
-        if (!isOwner && !isAssigned && !isManagerOrHigher) {
-            throw new AccessDeniedException("You don't have permission to manage this task");
+        TaskState before = taskJdbcRepository.updateStatusIfPermitted(id, taskStatus, currentUser.getId(), currentUser.isManagerOrAdmin()).orElse(null);
+        taskResponseCache.evict(id);
+        if (before == null) {
+            throw taskNotFoundOrDenied(id);
         }
-
-        task.setStatus(taskStatus);
-        taskRepository.save(task);
+        taskChanged(before, before.withStatus(taskStatus));
+        taskInboxService.tasksChanged(List.of(id));
+        if (before.getStatus().isClosed() != taskStatus.isClosed()) {
+            taskDeadlineService.taskChanged(id, taskStatus, before.getDeadline());
+        }
+        outboxService.record(DomainEventType.TASK_STATUS_CHANGED, id, Map.of("status", taskStatus));
         return new SimpleResponse("Status Successfully Changed!", HttpStatus.OK);
     }
 
 
+    @Transactional
     @Override
     public SimpleResponse assignTaskToAnotherPerson(Long taskId, Long studentId) {
-        Task task = taskRepository.findById(taskId).orElseThrow(() -> new RuntimeException("Task not found"));
-        String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        User currentUser = userRepository.findUserByEmail(email).orElseThrow(() -> new RuntimeException("User not found"));
+        TaskState before = taskJdbcRepository.reassignIfPermitted(taskId, studentId, currentUser.getId(), currentUser.isManagerOrAdmin()).orElse(null);
+        taskResponseCache.evict(taskId);
+        if (before == null) {
+            if (taskRepository.existsById(taskId) && !userRepository.existsById(studentId)) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Student not found");
+            }
+            throw taskNotFoundOrDenied(taskId);
+        }
+        taskChanged(before, before.withAssignee(studentId));
+        taskInboxService.tasksChanged(List.of(taskId));
+        outboxService.record(DomainEventType.TASK_ASSIGNED, taskId, Map.of("assigneeId", studentId));
+        return new SimpleResponse("Task Successfully reasigned",HttpStatus.OK);
+    }
 
-        boolean isOwner = currentUser.getId().equals(task.getCreatedBy().getId());
-        boolean isManagerOrAdmin = currentUser.getAuthorities().stream().anyMatch(
-                authority -> authority.getAuthority().equals("ROLE_ADMIN")||
-                        authority.getAuthority().equals("ROLE_MANAGER"));
-        if(!isOwner && !isManagerOrAdmin) {
-            throw new AccessDeniedException("You don't have permission to manage this task");
+    @Transactional
+    @Override
+    public BulkUpdateResponse changeTaskStatusBulk(BulkStatusRequest request) {
+        if (request.getStatus() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Status is required");
+        }
+        boolean byIds = request.getIds() != null && !request.getIds().isEmpty();
+        if (byIds == (request.getFilter() != null)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Provide either ids or a filter");
         }
+        if (!byIds) {
+            if (!hasCriteria(request.getFilter())) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Filter must contain at least one criterion");
+            }
+            // the matches are locked and then updated by id, so everything downstream follows the rows that
+            // changed even when the new status no longer matches the filter
+            List<Long> ids = taskJdbcRepository.lockMatchingIds(request.getFilter(), taskCategoryService.matching(request.getFilter()),
+                    currentUser.getId(), currentUser.isManagerOrAdmin());
+            long updated = updateStatusIn(ids, request.getStatus());
+            taskDeadlineService.markStale();
+            outboxService.record(DomainEventType.TASKS_STATUS_CHANGED, null, Map.of("status", request.getStatus(), "filter", request.getFilter()));
+            if (request.getFilter().getTeamId() != null) {
+                taskFilterCache.changed(request.getFilter().getTeamId());
+            } else {
+                taskFilterCache.changedAnywhere();
+            }
+            taskStatisticsService.markStale();
+            return new BulkUpdateResponse(updated, 0);
+        }
+        List<Long> ids = request.getIds().stream().filter(Objects::nonNull).distinct().toList();
+        long updated = updateStatusIn(ids, request.getStatus());
+        taskFilterCache.changedAnywhere();
+        taskStatisticsService.markStale();
+        taskDeadlineService.markStale();
+        outboxService.record(DomainEventType.TASKS_STATUS_CHANGED, null, Map.of("status", request.getStatus(), "ids", ids));
+        // ids that are missing or not manageable by the caller
+        return new BulkUpdateResponse(updated, ids.size() - updated);
+    }
 
-        User assignedUser = userRepository.findById(studentId).orElseThrow(() -> new RuntimeException("Student not found"));
-        task.setAssignedTo(assignedUser);
-        taskRepository.save(task);
-        return new SimpleResponse("Task Successfully reasigned",HttpStatus.OK);
+    private long updateStatusIn(List<Long> ids, TaskStatus status) {
+        long updated = 0;
+        for (int from = 0; from < ids.size(); from += BULK_BATCH_SIZE) {
+            List<Long> batch = ids.subList(from, Math.min(from + BULK_BATCH_SIZE, ids.size()));
+            updated += taskRepository.updateStatusInIfPermitted(batch, status, currentUser.getId(), currentUser.isManagerOrAdmin());
+            taskResponseCache.evictAll(batch);
+            taskInboxService.tasksChanged(batch);
+        }
+        return updated;
+    }
+
+    @Transactional
+    @Override
+    public BulkUpdateResponse reassignTasks(BulkReassignRequest request) {
+        if (request.getFromUserId() == null || request.getToUserId() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "fromUserId and toUserId are required");
+        }
+        if (!userRepository.existsById(request.getToUserId())) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found");
+        }
+        int updated = taskRepository.reassignAllIfPermitted(request.getFromUserId(),
+                userRepository.getReferenceById(request.getToUserId()), currentUser.getId(), currentUser.isManagerOrAdmin());
+        taskInboxService.assigneeChanged(request.getFromUserId());
+        taskInboxService.assigneeChanged(request.getToUserId());
+        outboxService.record(DomainEventType.TASKS_REASSIGNED, null,
+                Map.of("fromUserId", request.getFromUserId(), "toUserId", request.getToUserId()));
+        taskResponseCache.clear();
+        taskFilterCache.changedAnywhere();
+        taskStatisticsService.markStale();
+        return new BulkUpdateResponse(updated, 0);
+    }
+
+    private static boolean hasCriteria(TaskFilter filter) {
+        return filter.getStatus() != null || filter.getPriority() != null
+                || StringUtils.hasText(filter.getCategory())
+                || StringUtils.hasText(filter.getCategoryPrefix())
+                || StringUtils.hasText(filter.getCategoryContains())
+                || filter.getCreatedById() != null || filter.getAssignedToId() != null || filter.getTeamId() != null
+                || filter.getDeadlineFrom() != null || filter.getDeadlineTo() != null
+                || filter.getCreatedAtFrom() != null || filter.getCreatedAtTo() != null;
+    }
+
+    private void taskChanged(TaskState before, TaskState after) {
+        taskFilterCache.changed(before.getTeamId());
+        taskStatisticsService.taskChanged(before, after);
+    }
+
+    private static Long teamIdOf(Task task) {
+        return task.getTeam() != null ? task.getTeam().getId() : null;
+    }
+
+    private static TaskResponse toResponse(Task task) {
+        return new TaskResponse(
+                task.getId(),
+                task.getTitle(),
+                task.getDescription(),
+                task.getStatus(),
+                task.getPriority(),
+                task.getCategory(),
+                task.getDeadline(),
+                task.getAssignedTo() != null ? task.getAssignedTo().getId() : null,
+                task.getCreatedAt()
+        );
+    }
+
+    // only reached when a conditional statement matched no rows, so the happy path stays a single statement
+    private RuntimeException taskNotFoundOrDenied(Long id) {
+        if (!taskRepository.existsById(id)) {
+            return new ResponseStatusException(HttpStatus.NOT_FOUND, "Task not found");
+        }
+        return new AccessDeniedException("You don't have permission to manage this task");
     }
 }
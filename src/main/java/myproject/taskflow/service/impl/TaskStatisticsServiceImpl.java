@@ -0,0 +1,180 @@
+package myproject.taskflow.service.impl;
+
+import jakarta.annotation.PostConstruct;
+import myproject.taskflow.dto.response.TaskStatisticsResponse;
+import myproject.taskflow.enums.TaskStatus;
+import myproject.taskflow.repositories.jdbc.TaskCounterJdbcRepository;
+import myproject.taskflow.repositories.jpa.TaskState;
+import myproject.taskflow.service.TaskStatisticsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Dashboard counts kept in striped counters (one LongAdder per bucket) that task writes
+ * adjust after commit, so reading a count never touches the tasks table. A periodic
+ * reconciliation recounts the table with GROUP BY queries, stores the result in the
+ * task_counters rollup and corrects the in-memory values for anything the increments
+ * missed: bulk updates, imports, writes on other instances.
+ */
+@Service
+public class TaskStatisticsServiceImpl implements TaskStatisticsService {
+    private static final Logger log = LoggerFactory.getLogger(TaskStatisticsServiceImpl.class);
+    private static final String STATUS = "status:";
+    private static final String PRIORITY = "priority:";
+    private static final String TEAM = "team:";
+    private static final String ASSIGNEE = "assignee:";
+
+    private final TaskCounterJdbcRepository taskCounterJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private final AtomicBoolean stale = new AtomicBoolean();
+    private volatile Instant reconciledAt;
+
+    @Value("${tasks.counters.reconcile-interval:PT10M}")
+    private Duration reconcileInterval;
+
+    public TaskStatisticsServiceImpl(TaskCounterJdbcRepository taskCounterJdbcRepository, TransactionTemplate transactionTemplate) {
+        this.taskCounterJdbcRepository = taskCounterJdbcRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    // the rollup serves reads right away; it misses whatever changed since it was written, so recount soon
+    @PostConstruct
+    void load() {
+        taskCounterJdbcRepository.loadRollup().forEach((key, total) -> counter(key).add(total));
+        stale.set(true);
+    }
+
+    @Override
+    public TaskStatisticsResponse getStatistics() {
+        Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            byStatus.put(status, 0L);
+        }
+        Map<Integer, Long> byPriority = new TreeMap<>();
+        Map<Long, Long> byTeam = new TreeMap<>();
+        Map<Long, Long> byAssignee = new TreeMap<>();
+        counters.forEach((key, counter) -> {
+            long total = counter.sum();
+            if (total == 0) {
+                return;
+            }
+            if (key.startsWith(STATUS)) {
+                byStatus.put(TaskStatus.valueOf(key.substring(STATUS.length())), total);
+            } else if (key.startsWith(PRIORITY)) {
+                byPriority.put(Integer.valueOf(key.substring(PRIORITY.length())), total);
+            } else if (key.startsWith(TEAM)) {
+                byTeam.put(Long.valueOf(key.substring(TEAM.length())), total);
+            } else if (key.startsWith(ASSIGNEE)) {
+                byAssignee.put(Long.valueOf(key.substring(ASSIGNEE.length())), total);
+            }
+        });
+        return new TaskStatisticsResponse(byStatus, byPriority, byTeam, byAssignee, reconciledAt);
+    }
+
+    @Override
+    public void taskChanged(TaskState before, TaskState after) {
+        Runnable apply = () -> {
+            if (before != null) {
+                add(before, -1);
+            }
+            if (after != null) {
+                add(after, 1);
+            }
+        };
+        // a rolled back write must not move the counters
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+
+    @Override
+    public void markStale() {
+        stale.set(true);
+    }
+
+    @Scheduled(fixedDelayString = "${tasks.counters.check-interval:PT10S}")
+    public void reconcileIfDue() {
+        if (stale.get() || reconciledAt == null || reconciledAt.plus(reconcileInterval).isBefore(Instant.now())) {
+            reconcile();
+        }
+    }
+
+    /**
+     * Increments that land while the tables are being counted may be lost or counted
+     * twice; the next reconciliation corrects them.
+     */
+    public synchronized void reconcile() {
+        // cleared before counting so a bulk write during the count asks for another run
+        stale.set(false);
+        Map<String, Long> counted = new HashMap<>();
+        try {
+            taskCounterJdbcRepository.countByStatus().forEach((bucket, total) -> counted.put(STATUS + bucket, total));
+            taskCounterJdbcRepository.countOpenByPriority().forEach((bucket, total) -> counted.put(PRIORITY + bucket, total));
+            taskCounterJdbcRepository.countOpenByTeam().forEach((bucket, total) -> counted.put(TEAM + bucket, total));
+            taskCounterJdbcRepository.countOpenByAssignee().forEach((bucket, total) -> counted.put(ASSIGNEE + bucket, total));
+            transactionTemplate.executeWithoutResult(status -> taskCounterJdbcRepository.replaceRollup(counted));
+        } catch (RuntimeException e) {
+            stale.set(true);
+            throw e;
+        }
+
+        long corrected = 0;
+        for (Map.Entry<String, LongAdder> entry : counters.entrySet()) {
+            long drift = counted.getOrDefault(entry.getKey(), 0L) - entry.getValue().sum();
+            if (drift != 0) {
+                entry.getValue().add(drift);
+                corrected++;
+            }
+        }
+        for (Map.Entry<String, Long> entry : counted.entrySet()) {
+            if (!counters.containsKey(entry.getKey())) {
+                counter(entry.getKey()).add(entry.getValue());
+                corrected++;
+            }
+        }
+        reconciledAt = Instant.now();
+        log.debug("Task counters reconciled: {} buckets, {} corrected", counted.size(), corrected);
+    }
+
+    private void add(TaskState state, int delta) {
+        counter(STATUS + state.getStatus()).add(delta);
+        if (state.getStatus().isClosed()) {
+            return;
+        }
+        counter(PRIORITY + state.getPriority()).add(delta);
+        if (state.getTeamId() != null) {
+            counter(TEAM + state.getTeamId()).add(delta);
+        }
+        if (state.getAssigneeId() != null) {
+            counter(ASSIGNEE + state.getAssigneeId()).add(delta);
+        }
+    }
+
+    private LongAdder counter(String key) {
+        return counters.computeIfAbsent(key, k -> new LongAdder());
+    }
+}
@@ -1,6 +1,7 @@
 package myproject.taskflow.service.impl;
 
 import jakarta.transaction.Transactional;
+import myproject.taskflow.config.security.CurrentUser;
 import myproject.taskflow.dto.request.TeamRequest;
 import myproject.taskflow.dto.request.TeamUpdateRequest;
 import myproject.taskflow.dto.response.SimpleResponse;
@@ -9,17 +10,20 @@ import myproject.taskflow.dto.response.TeamSummaryResponse;
 import myproject.taskflow.entities.Team;
 import myproject.taskflow.entities.TeamMember;
 import myproject.taskflow.entities.User;
+import myproject.taskflow.enums.DomainEventType;
 import myproject.taskflow.repositories.jdbc.TeamJdbcRepository;
 import myproject.taskflow.repositories.jpa.TaskRepository;
 import myproject.taskflow.repositories.jpa.TeamMemberRepository;
 import myproject.taskflow.repositories.jpa.TeamRepository;
 import myproject.taskflow.repositories.jpa.UserRepository;
+import myproject.taskflow.service.OutboxService;
 import myproject.taskflow.service.TeamService;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 public class TeamServiceImpl implements TeamService {
@@ -28,29 +32,31 @@ public class TeamServiceImpl implements TeamService {
     private final TeamJdbcRepository teamJdbcRepository;
     private final TeamMemberRepository teamMemberRepository;
     private final TaskRepository taskRepository;
+    private final CurrentUser currentUser;
+    private final OutboxService outboxService;
 
-    public TeamServiceImpl(UserRepository userRepository, TeamRepository teamRepository, TeamJdbcRepository teamJdbcRepository, TeamMemberRepository teamMemberRepository, TaskRepository taskRepository) {
+    public TeamServiceImpl(UserRepository userRepository, TeamRepository teamRepository, TeamJdbcRepository teamJdbcRepository, TeamMemberRepository teamMemberRepository, TaskRepository taskRepository, CurrentUser currentUser,
+                           OutboxService outboxService) {
         this.userRepository = userRepository;
         this.teamRepository = teamRepository;
         this.teamJdbcRepository = teamJdbcRepository;
         this.teamMemberRepository = teamMemberRepository;
         this.taskRepository = taskRepository;
+        this.currentUser = currentUser;
+        this.outboxService = outboxService;
     }
 
+    @Transactional
     @Override
     public TeamResponse createTeam(TeamRequest teamRequest) {
-        String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        User currentUser = userRepository.findUserByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
         Team team = new Team();
-        team.setCreatedBy(currentUser);
+        team.setCreatedBy(userRepository.getReferenceById(currentUser.getId()));
         team.setDescription(teamRequest.getDescription());
         team.setName(teamRequest.getName());
 
         Team savedTeam = teamRepository.save(team);
 
-        return new TeamResponse(
+        TeamResponse response = new TeamResponse(
                 savedTeam.getId(),
                 savedTeam.getName(),
                 savedTeam.getDescription(),
@@ -58,6 +64,8 @@ public class TeamServiceImpl implements TeamService {
                 savedTeam.getCreatedAt(),
                 savedTeam.getUpdatedAt()
         );
+        outboxService.record(DomainEventType.TEAM_CREATED, savedTeam.getId(), response);
+        return response;
     }
 
 
@@ -71,39 +79,49 @@ public class TeamServiceImpl implements TeamService {
         return teamJdbcRepository.getTeamById(id);
     }
 
+    @Transactional
     @Override
     public SimpleResponse updateTeam(Long id,TeamUpdateRequest teamUpdateRequest) {
-        Team team = teamRepository.findById(id).orElseThrow(() -> new RuntimeException("Team not found"));
+        Team team = teamRepository.findByIdForUpdate(id).orElseThrow(() -> new RuntimeException("Team not found"));
         team.setName(teamUpdateRequest.getName());
         team.setDescription(teamUpdateRequest.getDescription());
         teamRepository.save(team);
+        // the description may be null
+        Map<String, Object> changed = new HashMap<>();
+        changed.put("name", team.getName());
+        changed.put("description", team.getDescription());
+        outboxService.record(DomainEventType.TEAM_UPDATED, id, changed);
         return new SimpleResponse("Team Updated!", HttpStatus.OK);
     }
 
     @Transactional
     @Override
     public SimpleResponse deleteTeam(Long id) {
-        Team team = teamRepository.findById(id).orElseThrow(() -> new RuntimeException("Team not found"));
+        Team team = teamRepository.findByIdForUpdate(id).orElseThrow(() -> new RuntimeException("Team not found"));
         teamMemberRepository.deleteByTeamId(team.getId());
         teamRepository.delete(team);
+        outboxService.record(DomainEventType.TEAM_DELETED, team.getId(), Map.of("name", team.getName()));
         return new SimpleResponse("Deleted successfully",HttpStatus.OK);
     }
 
+    @Transactional
     @Override
     public SimpleResponse addMemberToTeam(Long teamId, Long memberId) {
-        Team team = teamRepository.findById(teamId).orElseThrow(() -> new RuntimeException("Team not found"));
+        Team team = teamRepository.findByIdForUpdate(teamId).orElseThrow(() -> new RuntimeException("Team not found"));
         User user = userRepository.findById(memberId).orElseThrow(()->new RuntimeException("User not found"));
 
         TeamMember teamMember = new TeamMember();
         teamMember.setTeam(team);
         teamMember.setUser(user);
         teamMemberRepository.save(teamMember);
+        outboxService.record(DomainEventType.TEAM_MEMBER_ADDED, teamId, Map.of("userId", memberId));
         return new SimpleResponse(user.getNickname()+" Added to the "+team.getName(), HttpStatus.OK);
     }
 
+    @Transactional
     @Override
     public SimpleResponse removeMemberFromTeam(Long teamId, Long memberId) {
-        Team team = teamRepository.findById(teamId)
+        Team team = teamRepository.findByIdForUpdate(teamId)
                 .orElseThrow(() -> new RuntimeException("Team not found"));
 
         User user = userRepository.findById(memberId)
@@ -113,6 +131,7 @@ public class TeamServiceImpl implements TeamService {
                 .orElseThrow(() -> new RuntimeException("User is not in this team"));
 
         teamMemberRepository.delete(teamMember);
+        outboxService.record(DomainEventType.TEAM_MEMBER_REMOVED, teamId, Map.of("userId", memberId));
 
         return new SimpleResponse(user.getNickname() + " removed from " + team.getName(), HttpStatus.OK);
     }
@@ -2,6 +2,8 @@ package myproject.taskflow.service.impl;
 
 import org.springframework.transaction.annotation.Transactional;
 
+import myproject.taskflow.config.jwt.PrincipalInvalidationCache;
+import myproject.taskflow.config.security.CurrentUser;
 import myproject.taskflow.dto.request.UserUpdateRequest;
 import myproject.taskflow.dto.response.SimpleResponse;
 import myproject.taskflow.dto.response.UserDetailResponse;
@@ -13,7 +15,6 @@ import myproject.taskflow.repositories.jpa.TeamMemberRepository;
 import myproject.taskflow.repositories.jpa.UserRepository;
 import myproject.taskflow.service.UserService;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -24,12 +25,16 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final RefreshTokenRepository refreshTokenRepository;
     private final TeamMemberRepository teamMemberRepository;
+    private final PrincipalInvalidationCache principalInvalidationCache;
+    private final CurrentUser currentUser;
 
-    public UserServiceImpl(UserJdbcRepository userJdbcRepository, UserRepository userRepository, RefreshTokenRepository refreshTokenRepository, TeamMemberRepository teamMemberRepository) {
+    public UserServiceImpl(UserJdbcRepository userJdbcRepository, UserRepository userRepository, RefreshTokenRepository refreshTokenRepository, TeamMemberRepository teamMemberRepository, PrincipalInvalidationCache principalInvalidationCache, CurrentUser currentUser) {
         this.userJdbcRepository = userJdbcRepository;
         this.userRepository = userRepository;
         this.refreshTokenRepository = refreshTokenRepository;
         this.teamMemberRepository = teamMemberRepository;
+        this.principalInvalidationCache = principalInvalidationCache;
+        this.currentUser = currentUser;
     }
 
     @Override
@@ -44,13 +49,12 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public SimpleResponse updateOwnProfile(UserUpdateRequest userUpdateRequest) {
-        String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        User currentUser = userRepository.findUserByEmail(email).orElseThrow(()->new RuntimeException("User not found"));
-        currentUser.setNickname(userUpdateRequest.getNickname());
-        currentUser.setFirstName(userUpdateRequest.getFirstName());
-        currentUser.setLastName(userUpdateRequest.getLastName());
-        currentUser.setEmail(email);
-        userRepository.save(currentUser);
+        User user = userRepository.findById(currentUser.getId()).orElseThrow(()->new RuntimeException("User not found"));
+        user.setNickname(userUpdateRequest.getNickname());
+        user.setFirstName(userUpdateRequest.getFirstName());
+        user.setLastName(userUpdateRequest.getLastName());
+        userRepository.save(user);
+        principalInvalidationCache.invalidate(user.getId());
         return new SimpleResponse("Profile updated!", HttpStatus.OK);
     }
     @Transactional
@@ -60,6 +64,7 @@ public class UserServiceImpl implements UserService {
         refreshTokenRepository.deleteByUserId(userId);
         teamMemberRepository.deleteByUserId(userId);
         userRepository.delete(user);
+        principalInvalidationCache.invalidate(userId);
 
         return new SimpleResponse("User deleted!", HttpStatus.OK);
     }
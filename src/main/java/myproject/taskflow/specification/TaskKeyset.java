@@ -0,0 +1,111 @@
+package myproject.taskflow.specification;
+
+import jakarta.persistence.criteria.Path;
+import myproject.taskflow.entities.Task;
+import myproject.taskflow.enums.TaskStatus;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Set;
+
+/**
+ * Position in a task listing ordered by one column plus id as tie breaker. The cursor is
+ * an opaque base64 token of {@code sortBy:direction:id:value}; the next page seeks with
+ * {@code sortCol >= value and (sortCol > value or (sortCol = value and id > lastId))}
+ * instead of an OFFSET. The criteria API has no row value comparison, so the leading
+ * bound is spelled out to give the {@code (sortCol, id)} index a range to start from;
+ * every sortable column has such an index. Only non-null columns can be used, a NULL key
+ * would fall out of the comparison.
+ */
+public final class TaskKeyset {
+    private static final Set<String> SORTABLE = Set.of("id", "priority", "title", "status", "createdAt");
+
+    private final String sortBy;
+    private final boolean ascending;
+    private final Long lastId;
+    private final Comparable<?> lastValue;
+
+    private TaskKeyset(String sortBy, boolean ascending, Long lastId, Comparable<?> lastValue) {
+        this.sortBy = sortBy;
+        this.ascending = ascending;
+        this.lastId = lastId;
+        this.lastValue = lastValue;
+    }
+
+    public static TaskKeyset first(String sortBy, String sortDir) {
+        if (!SORTABLE.contains(sortBy)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cursor pagination cannot sort by " + sortBy);
+        }
+        return new TaskKeyset(sortBy, !sortDir.equalsIgnoreCase("desc"), null, null);
+    }
+
+    public static TaskKeyset decode(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":", 4);
+            TaskKeyset keyset = first(parts[0], parts[1]);
+            return new TaskKeyset(keyset.sortBy, keyset.ascending, Long.valueOf(parts[2]), parseValue(parts[0], parts[3]));
+        } catch (RuntimeException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+    }
+
+    public String next(Task last) {
+        String token = sortBy + ":" + (ascending ? "asc" : "desc") + ":" + last.getId() + ":" + valueOf(last);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public Sort sort() {
+        Sort.Direction direction = ascending ? Sort.Direction.ASC : Sort.Direction.DESC;
+        return sortBy.equals("id") ? Sort.by(direction, "id") : Sort.by(direction, sortBy).and(Sort.by(direction, "id"));
+    }
+
+    /**
+     * @return the seek predicate, or null on the first page
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Specification<Task> after() {
+        if (lastId == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            Path<Long> id = root.get("id");
+            if (sortBy.equals("id")) {
+                return ascending ? cb.greaterThan(id, lastId) : cb.lessThan(id, lastId);
+            }
+            Path<Comparable> column = root.get(sortBy);
+            Comparable value = lastValue;
+            return cb.and(
+                    ascending ? cb.greaterThanOrEqualTo(column, value) : cb.lessThanOrEqualTo(column, value),
+                    cb.or(
+                            ascending ? cb.greaterThan(column, value) : cb.lessThan(column, value),
+                            cb.and(cb.equal(column, value), ascending ? cb.greaterThan(id, lastId) : cb.lessThan(id, lastId))));
+        };
+    }
+
+    private String valueOf(Task task) {
+        return switch (sortBy) {
+            case "id" -> String.valueOf(task.getId());
+            case "priority" -> String.valueOf(task.getPriority());
+            case "title" -> task.getTitle();
+            case "status" -> task.getStatus().name();
+            case "createdAt" -> task.getCreatedAt().toString();
+            default -> throw new IllegalStateException(sortBy);
+        };
+    }
+
+    private static Comparable<?> parseValue(String sortBy, String value) {
+        return switch (sortBy) {
+            case "id" -> Long.valueOf(value);
+            case "priority" -> Integer.valueOf(value);
+            case "title" -> value;
+            case "status" -> TaskStatus.valueOf(value);
+            case "createdAt" -> LocalDateTime.parse(value);
+            default -> throw new IllegalArgumentException(sortBy);
+        };
+    }
+}
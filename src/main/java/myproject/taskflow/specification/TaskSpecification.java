@@ -11,12 +11,23 @@ import org.springframework.data.jpa.domain.Specification;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 
 public class TaskSpecification implements Specification<Task> {
     private final TaskFilter filter;
+    private final Set<Integer> categoryIds;
+
     public TaskSpecification(TaskFilter filter) {
+        this(filter, null);
+    }
+
+    /**
+     * @param categoryIds dictionary ids for the exact/prefix category criteria, see TaskCategoryService#matching
+     */
+    public TaskSpecification(TaskFilter filter, Set<Integer> categoryIds) {
         this.filter = filter;
+        this.categoryIds = categoryIds;
     }
 
     @Override
@@ -31,8 +42,21 @@ public class TaskSpecification implements Specification<Task> {
             predicates.add(cb.equal(root.get("priority"), filter.getPriority()));
         }
 
-        if (filter.getCategory() != null && !filter.getCategory().isEmpty()) {
-            predicates.add(cb.like(cb.lower(root.get("category")), "%" + filter.getCategory().toLowerCase() + "%"));
+        if (categoryIds != null) {
+            if (categoryIds.isEmpty()) {
+                predicates.add(cb.disjunction());
+            } else if (categoryIds.size() == 1) {
+                predicates.add(cb.equal(root.get("categoryId"), categoryIds.iterator().next()));
+            } else {
+                predicates.add(root.get("categoryId").in(categoryIds));
+            }
+        } else if (hasText(filter.getCategory()) || hasText(filter.getCategoryPrefix())) {
+            throw new IllegalStateException("Category filter was not resolved to dictionary ids");
+        }
+
+        // substring search cannot use an index and scans every task
+        if (hasText(filter.getCategoryContains())) {
+            predicates.add(cb.like(cb.lower(root.get("category")), "%" + filter.getCategoryContains().trim().toLowerCase() + "%"));
         }
 
         if (filter.getCreatedById() != null) {
@@ -65,4 +89,8 @@ public class TaskSpecification implements Specification<Task> {
 
         return cb.and(predicates.toArray(new Predicate[0]));
     }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
 }
@@ -0,0 +1,144 @@
+package myproject.taskflow.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replays the statements Hibernate sends when persisting tasks and team memberships, before
+ * ({@code allocationSize = 1}, no JDBC batching: one {@code nextval} and one insert per row) and
+ * after ({@code pooled-lo} with {@code allocationSize = 50} and {@code hibernate.jdbc.batch_size = 50}).
+ * Scores are rows inserted per second. Uses an in-memory H2 by default; pass
+ * {@code -Dbenchmark.jdbc.url=jdbc:postgresql://...?reWriteBatchedInserts=true} (plus
+ * {@code benchmark.jdbc.user}/{@code benchmark.jdbc.password}) to measure real round trips.
+ * Run with: {@code mvn test-compile exec:java -Dexec.mainClass=myproject.taskflow.benchmark.EntityInsertBenchmark -Dexec.classpathScope=test}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EntityInsertBenchmark {
+    private static final int ROWS = 500;
+    private static final int BLOCK = 50;
+
+    @Param({"1", "50"})
+    public int allocationSize;
+
+    private Connection connection;
+    private String taskSequenceSql;
+    private String memberSequenceSql;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getProperty("benchmark.jdbc.url", "jdbc:h2:mem:insert_bench;DB_CLOSE_DELAY=-1"),
+                System.getProperty("benchmark.jdbc.user", "sa"),
+                System.getProperty("benchmark.jdbc.password", ""));
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table if exists bench_tasks");
+            statement.execute("drop table if exists bench_team_members");
+            statement.execute("drop sequence if exists bench_task_seq");
+            statement.execute("drop sequence if exists bench_team_member_seq");
+            statement.execute("create table bench_tasks (id bigint primary key, title varchar(100) not null, " +
+                    "status varchar(20) not null, priority int not null, created_by bigint not null, created_at timestamp)");
+            statement.execute("create table bench_team_members (id bigint primary key, team_id bigint not null, " +
+                    "user_id bigint not null, joined_at timestamp)");
+            statement.execute("create sequence bench_task_seq start with 1 increment by " + allocationSize);
+            statement.execute("create sequence bench_team_member_seq start with 1 increment by " + allocationSize);
+        }
+        connection.commit();
+        boolean postgres = connection.getMetaData().getDatabaseProductName().toLowerCase().contains("postgres");
+        taskSequenceSql = postgres ? "select nextval('bench_task_seq')" : "select next value for bench_task_seq";
+        memberSequenceSql = postgres ? "select nextval('bench_team_member_seq')" : "select next value for bench_team_member_seq";
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void createTasks() throws SQLException {
+        insert("insert into bench_tasks (id, title, status, priority, created_by, created_at) values (?, ?, ?, ?, ?, ?)",
+                taskSequenceSql, (statement, id) -> {
+                    statement.setLong(1, id);
+                    statement.setString(2, "Task " + id);
+                    statement.setString(3, "NEW");
+                    statement.setInt(4, 1);
+                    statement.setLong(5, 1L);
+                    statement.setTimestamp(6, new Timestamp(System.currentTimeMillis()));
+                });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void createMemberships() throws SQLException {
+        insert("insert into bench_team_members (id, team_id, user_id, joined_at) values (?, ?, ?, ?)",
+                memberSequenceSql, (statement, id) -> {
+                    statement.setLong(1, id);
+                    statement.setLong(2, 1L);
+                    statement.setLong(3, id);
+                    statement.setTimestamp(4, new Timestamp(System.currentTimeMillis()));
+                });
+    }
+
+    private void insert(String insertSql, String sequenceSql, RowBinder binder) throws SQLException {
+        try (PreparedStatement sequence = connection.prepareStatement(sequenceSql);
+             PreparedStatement insert = connection.prepareStatement(insertSql)) {
+            boolean batched = allocationSize > 1;
+            long next = 0;
+            long hi = 0;
+            for (int i = 0; i < ROWS; i++) {
+                if (next == hi) {
+                    next = nextValue(sequence);
+                    hi = next + allocationSize;
+                }
+                binder.bind(insert, next++);
+                if (batched) {
+                    insert.addBatch();
+                    if ((i + 1) % BLOCK == 0) {
+                        insert.executeBatch();
+                    }
+                } else {
+                    insert.executeUpdate();
+                }
+            }
+            if (batched) {
+                insert.executeBatch();
+            }
+        }
+        connection.commit();
+    }
+
+    private static long nextValue(PreparedStatement sequence) throws SQLException {
+        try (ResultSet resultSet = sequence.executeQuery()) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowBinder {
+        void bind(PreparedStatement statement, long id) throws SQLException;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(EntityInsertBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
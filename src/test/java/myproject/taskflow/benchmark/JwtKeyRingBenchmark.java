@@ -0,0 +1,80 @@
+package myproject.taskflow.benchmark;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTCreator;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import myproject.taskflow.config.jwt.JwtKeyRing;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares signing/verifying through {@link JwtKeyRing} with building
+ * {@code Algorithm.HMAC256} and a {@link JWTVerifier} on every call.
+ * Run with: {@code mvn test-compile exec:java -Dexec.mainClass=myproject.taskflow.benchmark.JwtKeyRingBenchmark -Dexec.classpathScope=test}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtKeyRingBenchmark {
+    private static final String SECRET = "benchmark-secret";
+
+    private JwtKeyRing keyRing;
+    private String perCallToken;
+    private String keyRingToken;
+
+    @Setup
+    public void setUp() {
+        keyRing = new JwtKeyRing(SECRET, "default", new SimpleMeterRegistry());
+        perCallToken = perCallSign();
+        keyRingToken = keyRingSign();
+    }
+
+    @Benchmark
+    public String perCallSign() {
+        return claims().sign(Algorithm.HMAC256(SECRET));
+    }
+
+    @Benchmark
+    public String keyRingSign() {
+        return keyRing.sign(claims());
+    }
+
+    @Benchmark
+    public DecodedJWT perCallVerify() {
+        JWTVerifier verifier = JWT.require(Algorithm.HMAC256(SECRET)).build();
+        return verifier.verify(perCallToken);
+    }
+
+    @Benchmark
+    public DecodedJWT keyRingVerify() {
+        return keyRing.verify(keyRingToken);
+    }
+
+    private static JWTCreator.Builder claims() {
+        Instant now = Instant.now();
+        return JWT.create()
+                .withClaim("id", 1L)
+                .withClaim("email", "bench@example.com")
+                .withClaim("role", "USER")
+                .withIssuedAt(now)
+                .withExpiresAt(now.plus(15, ChronoUnit.MINUTES));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtKeyRingBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -1,6 +1,9 @@
 package myproject.taskflow.integration;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.auth0.jwt.JWT;
 import com.jayway.jsonpath.JsonPath;
+import io.micrometer.core.instrument.MeterRegistry;
+import myproject.taskflow.dto.request.KeyRotationRequest;
 import myproject.taskflow.dto.request.LoginRequest;
 import myproject.taskflow.dto.request.RegisterRequest;
 import myproject.taskflow.entities.User;
@@ -17,6 +20,8 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -38,6 +43,9 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
         @Autowired
         private ObjectMapper objectMapper;
 
+        @Autowired
+        private MeterRegistry meterRegistry;
+
         private String adminToken;
 
         @BeforeAll
@@ -147,4 +155,105 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
                     .andExpect(jsonPath("$.accessToken").isNotEmpty());
         }
 
+        @Test
+        void accessToken_shouldResolvePrincipalFromClaims() throws Exception {
+            double before = meterRegistry.counter("taskflow.jwt.principal.resolutions", "source", "claims").count();
+
+            mockMvc.perform(get("/api/users")
+                            .header("Authorization", "Bearer " + adminToken))
+                    .andExpect(status().isOk());
+
+            double after = meterRegistry.counter("taskflow.jwt.principal.resolutions", "source", "claims").count();
+            assertEquals(before + 1, after);
+        }
+
+        @Test
+        void rotateSigningKey_shouldKeepVerifyingOldTokens() throws Exception {
+            KeyRotationRequest rotation = new KeyRotationRequest();
+            rotation.setKid("rotated-" + System.nanoTime());
+            rotation.setSecret("rotated-secret");
+
+            mockMvc.perform(post("/api/admin/jwt/keys/rotate")
+                            .header("Authorization", "Bearer " + adminToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(rotation)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.active").value(true));
+
+            var loginResult = mockMvc.perform(post("/api/auth/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new LoginRequest("admin@example.com", "adminpass"))))
+                    .andExpect(status().isOk())
+                    .andReturn();
+            String newToken = JsonPath.read(loginResult.getResponse().getContentAsString(), "$.accessToken");
+            assertEquals(rotation.getKid(), JWT.decode(newToken).getKeyId());
+
+            mockMvc.perform(get("/api/users").header("Authorization", "Bearer " + adminToken))
+                    .andExpect(status().isOk());
+            mockMvc.perform(get("/api/users").header("Authorization", "Bearer " + newToken))
+                    .andExpect(status().isOk());
+        }
+
+        @Test
+        void rotateSigningKey_shouldRejectMissingOrUsedKid() throws Exception {
+            KeyRotationRequest rotation = new KeyRotationRequest();
+            rotation.setKid(" ");
+            mockMvc.perform(post("/api/admin/jwt/keys/rotate")
+                            .header("Authorization", "Bearer " + adminToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(rotation)))
+                    .andExpect(status().isBadRequest());
+
+            rotation.setKid(null);
+            mockMvc.perform(post("/api/admin/jwt/keys/rotate")
+                            .header("Authorization", "Bearer " + adminToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(rotation)))
+                    .andExpect(status().isBadRequest());
+
+            rotation.setKid(JWT.decode(adminToken).getKeyId());
+            mockMvc.perform(post("/api/admin/jwt/keys/rotate")
+                            .header("Authorization", "Bearer " + adminToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(rotation)))
+                    .andExpect(status().isConflict());
+        }
+
+        @Test
+        void login_shouldBeThrottledPerAccount() throws Exception {
+            if (userRepository.findUserByEmail("throttled@example.com").isEmpty()) {
+                userRepository.save(new User("ThrottledNick", "throttled@example.com",
+                        passwordEncoder.encode("throttledpass"), "Throttled", "User", Role.USER));
+            }
+            LoginRequest loginRequest = new LoginRequest("throttled@example.com", "throttledpass");
+            for (int i = 0; i < 10; i++) {
+                mockMvc.perform(post("/api/auth/login")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(loginRequest)))
+                        .andExpect(status().isOk());
+            }
+
+            mockMvc.perform(post("/api/auth/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(loginRequest)))
+                    .andExpect(status().isTooManyRequests());
+        }
+
+        @Test
+        void invalidAccessToken_shouldReturnUnauthorizedAndBeCached() throws Exception {
+            String tampered = adminToken.substring(0, adminToken.length() - 4) + "abcd";
+
+            mockMvc.perform(get("/api/users").header("Authorization", "Bearer " + tampered))
+                    .andExpect(status().isUnauthorized())
+                    .andExpect(jsonPath("$.message").value("Invalid access token: bad_signature"));
+            mockMvc.perform(get("/api/users").header("Authorization", "Bearer " + tampered))
+                    .andExpect(status().isUnauthorized());
+
+            assertEquals(1, meterRegistry.counter("taskflow.jwt.rejected", "reason", "bad_signature", "source", "cache").count());
+
+            mockMvc.perform(get("/api/users").header("Authorization", "Bearer not-a-token"))
+                    .andExpect(status().isUnauthorized())
+                    .andExpect(jsonPath("$.message").value("Invalid access token: malformed"));
+        }
+
     }
@@ -0,0 +1,115 @@
+package myproject.taskflow.integration;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+import myproject.taskflow.dto.request.KeyRotationRequest;
+import myproject.taskflow.dto.request.LoginRequest;
+import myproject.taskflow.entities.User;
+import myproject.taskflow.enums.Role;
+import myproject.taskflow.repositories.jpa.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigInteger;
+import java.security.AlgorithmParameters;
+import java.security.KeyFactory;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(locations = "classpath:application-test.properties", properties = "security.jwt.algorithm=ES256")
+public class JwksIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void accessToken_shouldVerifyWithPublishedJwk() throws Exception {
+        if (userRepository.findUserByEmail("jwks@example.com").isEmpty()) {
+            userRepository.save(new User("JwksNick", "jwks@example.com",
+                    passwordEncoder.encode("jwkspass"), "Jwks", "User", Role.USER));
+        }
+
+        String loginJson = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest("jwks@example.com", "jwkspass"))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String accessToken = JsonPath.read(loginJson, "$.accessToken");
+
+        String jwksJson = mockMvc.perform(get("/.well-known/jwks.json"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.keys[0].kty").value("EC"))
+                .andReturn().getResponse().getContentAsString();
+
+        DecodedJWT token = JWT.decode(accessToken);
+        assertEquals("ES256", token.getAlgorithm());
+        assertEquals(token.getKeyId(), JsonPath.read(jwksJson, "$.keys[0].kid"));
+
+        ECPublicKey publicKey = publicKey(JsonPath.read(jwksJson, "$.keys[0].x"), JsonPath.read(jwksJson, "$.keys[0].y"));
+        DecodedJWT verified = JWT.require(Algorithm.ECDSA256(publicKey, null)).build().verify(accessToken);
+        assertEquals("jwks@example.com", verified.getClaim("email").asString());
+    }
+
+    @Test
+    void rotate_shouldRejectSecretInEs256Mode() throws Exception {
+        if (userRepository.findUserByEmail("jwks-admin@example.com").isEmpty()) {
+            userRepository.save(new User("JwksAdmin", "jwks-admin@example.com",
+                    passwordEncoder.encode("jwkspass"), "Jwks", "Admin", Role.ADMIN));
+        }
+        String loginJson = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest("jwks-admin@example.com", "jwkspass"))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String adminToken = JsonPath.read(loginJson, "$.accessToken");
+
+        KeyRotationRequest rotation = new KeyRotationRequest();
+        rotation.setKid("es256-with-secret");
+        rotation.setSecret("shared-secret");
+        mockMvc.perform(post("/api/admin/jwt/keys/rotate")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(rotation)))
+                .andExpect(status().isBadRequest());
+    }
+
+    private ECPublicKey publicKey(String x, String y) throws Exception {
+        AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+        parameters.init(new ECGenParameterSpec("secp256r1"));
+        ECPoint point = new ECPoint(
+                new BigInteger(1, Base64.getUrlDecoder().decode(x)),
+                new BigInteger(1, Base64.getUrlDecoder().decode(y)));
+        ECPublicKeySpec spec = new ECPublicKeySpec(point, parameters.getParameterSpec(ECParameterSpec.class));
+        return (ECPublicKey) KeyFactory.getInstance("EC").generatePublic(spec);
+    }
+}
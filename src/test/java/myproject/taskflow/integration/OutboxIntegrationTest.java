@@ -0,0 +1,192 @@
+package myproject.taskflow.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import myproject.taskflow.entities.User;
+import myproject.taskflow.enums.DomainEventType;
+import myproject.taskflow.enums.EventAggregate;
+import myproject.taskflow.enums.Role;
+import myproject.taskflow.events.DomainEvent;
+import myproject.taskflow.repositories.jpa.UserRepository;
+import myproject.taskflow.scheduling.OutboxDispatcher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(locations = "classpath:application-test.properties", properties = {
+        "outbox.dispatch.interval=PT1H",
+        "outbox.dispatch.retry-backoff=PT0S"
+})
+public class OutboxIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+
+    @Autowired
+    private RecordingListener listener;
+
+    private User manager;
+
+    @BeforeEach
+    void setUp() {
+        manager = userRepository.findUserByEmail("outbox-manager@example.com")
+                .orElseGet(() -> userRepository.save(new User("outboxManager", "outbox-manager@example.com", "password", "Outbox", "Manager", Role.MANAGER)));
+    }
+
+    @Test
+    void taskChanges_shouldBeDeliveredInOrderAfterCommit() throws Exception {
+        long taskId = createTask("outbox-ordered");
+        mockMvc.perform(patch("/api/tasks/" + taskId + "/status")
+                        .param("status", "IN_PROGRESS")
+                        .with(user(manager.getEmail()).roles("MANAGER")))
+                .andExpect(status().isOk());
+        assertTrue(listener.eventsOf(taskId).isEmpty());
+
+        outboxDispatcher.run();
+
+        List<DomainEvent> events = listener.eventsOf(taskId);
+        assertEquals(List.of(DomainEventType.TASK_CREATED, DomainEventType.TASK_STATUS_CHANGED),
+                events.stream().map(DomainEvent::getType).toList());
+        assertEquals("IN_PROGRESS", events.get(1).getPayload().get("status").asText());
+    }
+
+    @Test
+    void failedDelivery_shouldHoldBackLaterEventsOfTheSameTask() throws Exception {
+        long taskId = createTask("outbox-retried");
+        mockMvc.perform(patch("/api/tasks/" + taskId + "/status")
+                        .param("status", "REVIEW")
+                        .with(user(manager.getEmail()).roles("MANAGER")))
+                .andExpect(status().isOk());
+        listener.failOnce(taskId);
+
+        outboxDispatcher.dispatchBatch();
+        assertTrue(listener.eventsOf(taskId).isEmpty());
+
+        outboxDispatcher.run();
+        assertEquals(List.of(DomainEventType.TASK_CREATED, DomainEventType.TASK_STATUS_CHANGED),
+                listener.eventsOf(taskId).stream().map(DomainEvent::getType).toList());
+    }
+
+    @Test
+    void failedBulkDelivery_shouldHoldBackLaterEventsOfTheTasksItCovers() throws Exception {
+        long taskId = createTask("outbox-bulk");
+        mockMvc.perform(patch("/api/tasks/bulk/status")
+                        .with(user(manager.getEmail()).roles("MANAGER"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"IN_PROGRESS\",\"ids\":[" + taskId + "]}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(patch("/api/tasks/" + taskId + "/status")
+                        .param("status", "REVIEW")
+                        .with(user(manager.getEmail()).roles("MANAGER")))
+                .andExpect(status().isOk());
+        listener.failOnce(DomainEventType.TASKS_STATUS_CHANGED);
+
+        // the bulk event waits for the creation, then fails and holds back the single-task change
+        outboxDispatcher.dispatchBatch();
+        outboxDispatcher.dispatchBatch();
+        assertEquals(List.of(DomainEventType.TASK_CREATED),
+                listener.eventsOf(taskId).stream().map(DomainEvent::getType).toList());
+
+        outboxDispatcher.run();
+        assertEquals(List.of(DomainEventType.TASK_CREATED, DomainEventType.TASK_STATUS_CHANGED),
+                listener.eventsOf(taskId).stream().map(DomainEvent::getType).toList());
+        List<DomainEvent> bulk = listener.bulkEventsCovering(taskId);
+        assertEquals(1, bulk.size());
+        assertTrue(listener.indexOf(bulk.get(0)) < listener.indexOf(listener.eventsOf(taskId).get(1)));
+    }
+
+    private long createTask(String title) throws Exception {
+        String created = mockMvc.perform(post("/api/tasks")
+                        .with(user(manager.getEmail()).roles("MANAGER"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"" + title + "\",\"priority\":1,\"assigned_to\":" + manager.getId() + "}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return new ObjectMapper().readTree(created).get("id").asLong();
+    }
+
+    @TestConfiguration
+    static class ListenerConfig {
+        @Bean
+        RecordingListener recordingListener() {
+            return new RecordingListener();
+        }
+    }
+
+    static class RecordingListener {
+        private final List<DomainEvent> events = new CopyOnWriteArrayList<>();
+        private final Set<Long> failing = ConcurrentHashMap.newKeySet();
+        private final Set<DomainEventType> failingTypes = ConcurrentHashMap.newKeySet();
+
+        @EventListener
+        public void on(DomainEvent event) {
+            if (event.getAggregateId() != null && event.getAggregateType() == EventAggregate.TASK && failing.remove(event.getAggregateId())) {
+                throw new IllegalStateException("listener down");
+            }
+            if (failingTypes.remove(event.getType())) {
+                throw new IllegalStateException("listener down");
+            }
+            events.add(event);
+        }
+
+        void failOnce(Long aggregateId) {
+            failing.add(aggregateId);
+        }
+
+        void failOnce(DomainEventType type) {
+            failingTypes.add(type);
+        }
+
+        int indexOf(DomainEvent event) {
+            return events.indexOf(event);
+        }
+
+        List<DomainEvent> bulkEventsCovering(Long taskId) {
+            return events.stream()
+                    .filter(event -> event.getAggregateId() == null && containsId(event, taskId))
+                    .toList();
+        }
+
+        private static boolean containsId(DomainEvent event, Long taskId) {
+            for (JsonNode id : event.getPayload().path("ids")) {
+                if (id.asLong() == taskId) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        List<DomainEvent> eventsOf(Long taskId) {
+            return events.stream()
+                    .filter(event -> event.getAggregateType() == EventAggregate.TASK && taskId.equals(event.getAggregateId()))
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package myproject.taskflow.integration;
+
+import jakarta.persistence.EntityManagerFactory;
+import myproject.taskflow.entities.Task;
+import myproject.taskflow.entities.Team;
+import myproject.taskflow.entities.TeamMember;
+import myproject.taskflow.entities.User;
+import myproject.taskflow.enums.Role;
+import myproject.taskflow.enums.TaskStatus;
+import myproject.taskflow.repositories.jpa.TaskRepository;
+import myproject.taskflow.repositories.jpa.TeamMemberRepository;
+import myproject.taskflow.repositories.jpa.TeamRepository;
+import myproject.taskflow.repositories.jpa.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+public class PersistenceBatchingIntegrationTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private TeamMemberRepository teamMemberRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    void saveAll_tasks_shouldBatchInsertsAndReserveIdsInBlocks() {
+        User creator = userRepository.save(new User("batchTasks", "batch-tasks@example.com", "password", "Batch", "Tasks", Role.USER));
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            Task task = new Task();
+            task.setTitle("Batch task " + i);
+            task.setStatus(TaskStatus.NEW);
+            task.setPriority(1);
+            task.setCreatedBy(creator);
+            tasks.add(task);
+        }
+
+        statistics.clear();
+        List<Task> saved = transactionTemplate.execute(status -> taskRepository.saveAll(tasks));
+
+        assertEquals(120, statistics.getEntityInsertCount());
+        // 3 sequence calls + 3 insert batches; one statement per row would be 240
+        assertTrue(statistics.getPrepareStatementCount() <= 10,
+                "expected batched inserts, got " + statistics.getPrepareStatementCount() + " statements");
+        assertEquals(saved.get(0).getId() + 49, saved.get(49).getId());
+    }
+
+    @Test
+    void saveAll_memberships_shouldBatchInserts() {
+        User owner = userRepository.save(new User("batchMembers", "batch-members@example.com", "password", "Batch", "Members", Role.USER));
+        Team team = new Team();
+        team.setName("Batch team");
+        team.setCreatedBy(owner);
+        Team savedTeam = teamRepository.save(team);
+        List<TeamMember> members = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            TeamMember member = new TeamMember();
+            member.setTeam(savedTeam);
+            member.setUser(owner);
+            members.add(member);
+        }
+
+        statistics.clear();
+        transactionTemplate.executeWithoutResult(status -> teamMemberRepository.saveAll(members));
+
+        assertEquals(60, statistics.getEntityInsertCount());
+        assertTrue(statistics.getPrepareStatementCount() <= 6,
+                "expected batched inserts, got " + statistics.getPrepareStatementCount() + " statements");
+    }
+}
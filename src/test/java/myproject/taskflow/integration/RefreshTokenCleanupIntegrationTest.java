@@ -0,0 +1,58 @@
+package myproject.taskflow.integration;
+
+import myproject.taskflow.entities.RefreshToken;
+import myproject.taskflow.entities.User;
+import myproject.taskflow.enums.Role;
+import myproject.taskflow.repositories.jpa.RefreshTokenRepository;
+import myproject.taskflow.repositories.jpa.UserRepository;
+import myproject.taskflow.scheduling.RefreshTokenCleanupJob;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+public class RefreshTokenCleanupIntegrationTest {
+
+    @Autowired
+    private RefreshTokenCleanupJob cleanupJob;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private RefreshToken saveToken(String email, LocalDateTime expiry, boolean revoked) {
+        User user = userRepository.save(new User(email, email, "password", "Cleanup", "User", Role.USER));
+        RefreshToken token = new RefreshToken(user, email.replace("@example.com", "").repeat(4), expiry);
+        token.setRevoked(revoked);
+        return refreshTokenRepository.save(token);
+    }
+
+    @Test
+    void purge_shouldDeleteOnlyExpiredOrRevokedTokens() {
+        RefreshToken expired = saveToken("cleanup-expired@example.com", LocalDateTime.now().minusDays(1), false);
+        RefreshToken revoked = saveToken("cleanup-revoked@example.com", LocalDateTime.now().plusDays(1), true);
+        RefreshToken active = saveToken("cleanup-active@example.com", LocalDateTime.now().plusDays(1), false);
+
+        ReflectionTestUtils.setField(cleanupJob, "dryRun", true);
+        try {
+            assertTrue(cleanupJob.purge(LocalDateTime.now()) >= 2);
+            assertTrue(refreshTokenRepository.existsById(expired.getId()));
+        } finally {
+            ReflectionTestUtils.setField(cleanupJob, "dryRun", false);
+        }
+
+        assertTrue(cleanupJob.purge(LocalDateTime.now()) >= 2);
+        assertFalse(refreshTokenRepository.existsById(expired.getId()));
+        assertFalse(refreshTokenRepository.existsById(revoked.getId()));
+        assertTrue(refreshTokenRepository.existsById(active.getId()));
+    }
+}
@@ -0,0 +1,94 @@
+package myproject.taskflow.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import myproject.taskflow.entities.Task;
+import myproject.taskflow.entities.User;
+import myproject.taskflow.enums.Role;
+import myproject.taskflow.enums.TaskStatus;
+import myproject.taskflow.repositories.jpa.TaskRepository;
+import myproject.taskflow.repositories.jpa.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(locations = "classpath:application-test.properties", properties = "tasks.export.fetch-size=2")
+public class TaskExportIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private User owner;
+    private String category;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.findUserByEmail("export-owner@example.com")
+                .orElseGet(() -> userRepository.save(new User("exportOwner", "export-owner@example.com", "password", "Export", "Owner", Role.MANAGER)));
+        category = "export" + System.nanoTime();
+        for (String title : new String[]{"plain", "with, comma", "with \"quotes\""}) {
+            Task task = new Task();
+            task.setTitle(title);
+            task.setStatus(TaskStatus.NEW);
+            task.setPriority(2);
+            task.setCategory(category);
+            task.setCreatedBy(owner);
+            task.setAssignedTo(owner);
+            taskRepository.save(task);
+        }
+    }
+
+    @Test
+    void exportNdjson_shouldStreamOneObjectPerMatchingTask() throws Exception {
+        String body = mockMvc.perform(get("/api/tasks/export")
+                        .param("categoryContains", category)
+                        .with(user(owner.getEmail()).roles("MANAGER")))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+
+        List<String> lines = body.lines().toList();
+        assertEquals(3, lines.size());
+        ObjectMapper mapper = new ObjectMapper();
+        JsonNode first = mapper.readTree(lines.get(0));
+        assertEquals("plain", first.get("title").asText());
+        assertEquals(owner.getId(), first.get("assigned_to").asLong());
+        assertTrue(first.get("id").asLong() < mapper.readTree(lines.get(2)).get("id").asLong());
+    }
+
+    @Test
+    void exportCsv_shouldQuoteFieldsWithSeparators() throws Exception {
+        String body = mockMvc.perform(get("/api/tasks/export")
+                        .param("categoryContains", category)
+                        .param("format", "CSV")
+                        .with(user(owner.getEmail()).roles("MANAGER")))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"tasks.csv\""))
+                .andReturn().getResponse().getContentAsString();
+
+        List<String> lines = body.lines().toList();
+        assertEquals(4, lines.size());
+        assertEquals("id,title,description,status,priority,category,deadline,assigned_to,team_id,created_at", lines.get(0));
+        assertTrue(lines.get(2).contains(",\"with, comma\",,NEW,2," + category + ","));
+        assertTrue(lines.get(3).contains(",\"with \"\"quotes\"\"\","));
+    }
+}
@@ -0,0 +1,141 @@
+package myproject.taskflow.integration;
+
+import myproject.taskflow.entities.Task;
+import myproject.taskflow.entities.User;
+import myproject.taskflow.enums.Role;
+import myproject.taskflow.enums.TaskStatus;
+import myproject.taskflow.repositories.jpa.TaskRepository;
+import myproject.taskflow.repositories.jpa.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(locations = "classpath:application-test.properties", properties = "tasks.import.chunk-size=2")
+public class TaskImportIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private User manager;
+    private User assignee;
+
+    @BeforeEach
+    void setUp() {
+        manager = userRepository.findUserByEmail("import-manager@example.com")
+                .orElseGet(() -> userRepository.save(new User("importManager", "import-manager@example.com", "password", "Import", "Manager", Role.MANAGER)));
+        assignee = userRepository.findUserByEmail("import-assignee@example.com")
+                .orElseGet(() -> userRepository.save(new User("importAssignee", "import-assignee@example.com", "password", "Import", "Assignee", Role.USER)));
+    }
+
+    @Test
+    void importNdjson_shouldInsertValidRowsAndReportInvalidOnes() throws Exception {
+        String body = String.join("\n",
+                "{\"title\":\"ndjson-1\",\"priority\":1,\"assigned_to\":" + assignee.getId() + "}",
+                "{\"title\":\"ndjson-2\",\"priority\":2,\"status\":\"review\",\"deadline\":\"2030-01-01T10:00:00\"}",
+                "{\"title\":\"\",\"priority\":1}",
+                "not json",
+                "{\"title\":\"ndjson-3\",\"priority\":3,\"assigned_to\":999999}",
+                "{\"title\":\"ndjson-4\",\"priority\":4}");
+
+        mockMvc.perform(post("/api/tasks/import")
+                        .with(user(manager.getEmail()).roles("MANAGER"))
+                        .contentType("application/x-ndjson")
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.processed").value(6))
+                .andExpect(jsonPath("$.imported").value(3))
+                .andExpect(jsonPath("$.failed").value(3))
+                .andExpect(jsonPath("$.errors[0].line").value(3))
+                .andExpect(jsonPath("$.errors[0].message").value("Title is required"))
+                .andExpect(jsonPath("$.errors[1].line").value(4))
+                .andExpect(jsonPath("$.errors[2].message").value("Assigned user not found: 999999"));
+
+        List<Task> imported = taskRepository.findAll().stream()
+                .filter(task -> task.getTitle().startsWith("ndjson-"))
+                .toList();
+        assertEquals(3, imported.size());
+        Task reviewed = imported.stream().filter(task -> task.getTitle().equals("ndjson-2")).findFirst().orElseThrow();
+        assertEquals(TaskStatus.REVIEW, reviewed.getStatus());
+        assertNotNull(reviewed.getCreatedAt());
+
+        // ids come from task_seq, so regular inserts keep working after an import
+        Task regular = new Task();
+        regular.setTitle("after-import");
+        regular.setStatus(TaskStatus.NEW);
+        regular.setPriority(1);
+        regular.setCreatedBy(manager);
+        assertNotNull(taskRepository.save(regular).getId());
+    }
+
+    @Test
+    void importNdjson_shouldReportNonObjectRows() throws Exception {
+        String body = String.join("\n",
+                "null",
+                "[1, 2]",
+                "42",
+                "{\"title\":\"object-row\",\"priority\":1}");
+
+        mockMvc.perform(post("/api/tasks/import")
+                        .with(user(manager.getEmail()).roles("MANAGER"))
+                        .contentType("application/x-ndjson")
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.processed").value(4))
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.failed").value(3))
+                .andExpect(jsonPath("$.errors[0].line").value(1))
+                .andExpect(jsonPath("$.errors[0].message").value("Row must be a JSON object"))
+                .andExpect(jsonPath("$.errors[1].line").value(2))
+                .andExpect(jsonPath("$.errors[2].line").value(3));
+    }
+
+    @Test
+    void importCsv_shouldHandleQuotedFields() throws Exception {
+        String body = String.join("\n",
+                "title,description,priority,assigned_to",
+                "csv-1,\"Fix \"\"login\"\", then deploy\",1," + assignee.getId(),
+                "csv-2,,x,");
+
+        mockMvc.perform(post("/api/tasks/import")
+                        .with(user(manager.getEmail()).roles("MANAGER"))
+                        .contentType("text/csv")
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.errors[0].line").value(3));
+
+        Task task = taskRepository.findAll().stream()
+                .filter(t -> t.getTitle().equals("csv-1"))
+                .findFirst().orElseThrow();
+        assertEquals("Fix \"login\", then deploy", task.getDescription());
+    }
+
+    @Test
+    void import_shouldDeny_forRegularUser() throws Exception {
+        mockMvc.perform(post("/api/tasks/import")
+                        .with(user(assignee.getEmail()).roles("USER"))
+                        .contentType("application/x-ndjson")
+                        .content("{\"title\":\"denied\",\"priority\":1}"))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -1,4 +1,5 @@
 package myproject.taskflow.integration;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import myproject.taskflow.dto.request.TaskRequest;
@@ -9,6 +10,7 @@ import myproject.taskflow.enums.Role;
 import myproject.taskflow.enums.TaskStatus;
 import myproject.taskflow.repositories.jpa.TaskRepository;
 import myproject.taskflow.repositories.jpa.UserRepository;
+import myproject.taskflow.service.TaskCategoryService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,10 +20,16 @@ import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -43,6 +51,9 @@ public class TaskIntegrationTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private TaskCategoryService taskCategoryService;
+
     private User adminUser;
     private User normalUser;
     private User managerUser;
@@ -226,5 +237,370 @@ public class TaskIntegrationTest {
                         .with(user(normalUser.getEmail()).roles("USER"))) // обычный пользователь без прав
                 .andExpect(status().isForbidden());
     }
-}
 
+    @Test
+    void changeTaskStatus_shouldReturnNotFound_forMissingTask() throws Exception {
+        mockMvc.perform(patch("/api/tasks/{id}/status", Long.MAX_VALUE)
+                        .param("status", "COMPLETED")
+                        .with(user(managerUser.getEmail()).roles("MANAGER")))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void changeTaskStatus_shouldPersistStatus() throws Exception {
+        mockMvc.perform(patch("/api/tasks/{id}/status", testTask.getId())
+                        .param("status", "REVIEW")
+                        .with(user(adminUser.getEmail()).roles("ADMIN")))
+                .andExpect(status().isOk());
+
+        assertEquals(TaskStatus.REVIEW,
+                taskRepository.findById(testTask.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void changeStatusBulk_shouldSkipTasksTheUserCannotManage() throws Exception {
+        Task foreignTask = new Task();
+        foreignTask.setTitle("Foreign Task");
+        foreignTask.setStatus(TaskStatus.NEW);
+        foreignTask.setPriority(1);
+        foreignTask.setCreatedBy(adminUser);
+        foreignTask.setAssignedTo(managerUser);
+        foreignTask = taskRepository.save(foreignTask);
+
+        mockMvc.perform(patch("/api/tasks/bulk/status")
+                        .with(user(normalUser.getEmail()).roles("USER"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"COMPLETED\",\"ids\":[" + testTask.getId() + "," + foreignTask.getId() + "]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(1))
+                .andExpect(jsonPath("$.skipped").value(1));
+
+        assertEquals(TaskStatus.COMPLETED, taskRepository.findById(testTask.getId()).orElseThrow().getStatus());
+        assertEquals(TaskStatus.NEW, taskRepository.findById(foreignTask.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void changeStatusBulk_byFilter_shouldUpdateMatchingTasks() throws Exception {
+        mockMvc.perform(patch("/api/tasks/bulk/status")
+                        .with(user(managerUser.getEmail()).roles("MANAGER"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"CANCELLED\",\"filter\":{\"assignedToId\":" + normalUser.getId() + "}}"))
+                .andExpect(status().isOk());
+
+        assertEquals(TaskStatus.CANCELLED, taskRepository.findById(testTask.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void changeStatusBulk_byStatusFilter_shouldRemoveClosedTasksFromInbox() throws Exception {
+        User assignee = userRepository.save(new User("bulkInbox" + System.nanoTime(), "bulk-inbox" + System.nanoTime() + "@example.com",
+                "password", "Bulk", "Inbox", Role.USER));
+        long started = createAssignedTask("Started", LocalDateTime.now().plusDays(2), assignee);
+        long waiting = createAssignedTask("Waiting", LocalDateTime.now().plusDays(3), assignee);
+        mockMvc.perform(patch("/api/tasks/" + started + "/status")
+                        .param("status", "IN_PROGRESS")
+                        .with(user(adminUser.getEmail()).roles("ADMIN")))
+                .andExpect(status().isOk());
+
+        // the completed task no longer matches the filter once the update ran
+        mockMvc.perform(patch("/api/tasks/bulk/status")
+                        .with(user(adminUser.getEmail()).roles("ADMIN"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"COMPLETED\",\"filter\":{\"status\":\"IN_PROGRESS\",\"assignedToId\":" + assignee.getId() + "}}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(1));
+
+        mockMvc.perform(get("/api/tasks/inbox").with(user(assignee.getEmail()).roles("USER")))
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(waiting));
+    }
+
+    @Test
+    void reassignTasks_shouldMoveAllTasksOfUser() throws Exception {
+        User leaving = new User("leavingNick", "leaving@example.com", passwordEncoder.encode("pass"), "Leaving", "User", Role.USER);
+        userRepository.save(leaving);
+        testTask.setAssignedTo(leaving);
+        taskRepository.save(testTask);
+
+        mockMvc.perform(patch("/api/tasks/bulk/reassign")
+                        .with(user(adminUser.getEmail()).roles("ADMIN"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"fromUserId\":" + leaving.getId() + ",\"toUserId\":" + managerUser.getId() + "}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(1));
+
+        assertEquals(0, taskRepository.findAll().stream()
+                .filter(task -> task.getAssignedTo() != null && task.getAssignedTo().getId().equals(leaving.getId()))
+                .count());
+    }
+
+    @Test
+    void getTasksByCursor_shouldWalkAllPagesInSortOrder() throws Exception {
+        String category = "keyset" + System.nanoTime();
+        List<Task> created = new ArrayList<>();
+        for (int priority : new int[]{3, 1, 3, 2, 1}) {
+            Task task = new Task();
+            task.setTitle("Keyset " + priority);
+            task.setStatus(TaskStatus.NEW);
+            task.setPriority(priority);
+            task.setCategory(category);
+            task.setCategoryId(taskCategoryService.resolve(category));
+            task.setCreatedBy(adminUser);
+            created.add(taskRepository.save(task));
+        }
+        List<Long> expected = created.stream()
+                .sorted(Comparator.comparing(Task::getPriority).thenComparing(Task::getId))
+                .map(Task::getId)
+                .toList();
+
+        ObjectMapper mapper = new ObjectMapper();
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            MockHttpServletRequestBuilder request = get("/api/tasks/tasks/filter/cursor")
+                    .param("category", category)
+                    .param("size", "2")
+                    .param("sortBy", "priority")
+                    .with(user(normalUser.getEmail()).roles("USER"));
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            JsonNode page = mapper.readTree(mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString());
+            page.get("content").forEach(task -> seen.add(task.get("id").asLong()));
+            cursor = page.get("nextCursor").isNull() ? null : page.get("nextCursor").asText();
+        } while (cursor != null);
+
+        assertEquals(expected, seen);
+    }
+
+    @Test
+    void getTasksByCursor_shouldRejectInvalidCursor() throws Exception {
+        mockMvc.perform(get("/api/tasks/tasks/filter/cursor")
+                        .param("cursor", "not-a-cursor")
+                        .with(user(normalUser.getEmail()).roles("USER")))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getTasksByFilter_sliceMode_shouldOmitTotals() throws Exception {
+        mockMvc.perform(get("/api/tasks/tasks/filter")
+                        .param("mode", "SLICE")
+                        .param("size", "1")
+                        .with(user(normalUser.getEmail()).roles("USER")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.last").exists())
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+    }
+
+    @Test
+    void getTasksByFilter_estimateMode_shouldFlagEstimatedTotal() throws Exception {
+        mockMvc.perform(get("/api/tasks/tasks/filter")
+                        .param("mode", "ESTIMATE")
+                        .param("size", "1")
+                        .with(user(normalUser.getEmail()).roles("USER")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalEstimated").value(true))
+                .andExpect(jsonPath("$.totalElements").value(taskRepository.count()));
+    }
+
+    @Test
+    void getTasksByFilter_shouldMatchCategoryExactlyByPrefixAndBySubstring() throws Exception {
+        String suffix = String.valueOf(System.nanoTime());
+        for (String category : new String[]{"Backend-" + suffix, "backend-" + suffix + "-api", "Frontend-" + suffix}) {
+            TaskRequest request = new TaskRequest();
+            request.setTitle("Category " + category);
+            request.setPriority(1);
+            request.setCategory(category);
+            request.setAssigned_to(normalUser.getId());
+            mockMvc.perform(post("/api/tasks")
+                            .with(user(managerUser.getEmail()).roles("MANAGER"))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(asJsonString(request)))
+                    .andExpect(status().isOk());
+        }
+
+        mockMvc.perform(get("/api/tasks/tasks/filter")
+                        .param("category", "BACKEND-" + suffix)
+                        .with(user(normalUser.getEmail()).roles("USER")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].category").value("Backend-" + suffix));
+
+        mockMvc.perform(get("/api/tasks/tasks/filter")
+                        .param("categoryPrefix", "backend-" + suffix)
+                        .with(user(normalUser.getEmail()).roles("USER")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(2));
+
+        mockMvc.perform(get("/api/tasks/tasks/filter")
+                        .param("categoryContains", "end-" + suffix)
+                        .with(user(normalUser.getEmail()).roles("USER")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(3));
+
+        mockMvc.perform(get("/api/tasks/tasks/filter")
+                        .param("category", "missing-" + suffix)
+                        .with(user(normalUser.getEmail()).roles("USER")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(0));
+    }
+
+    @Test
+    void getTasksByFilter_withFields_shouldReturnOnlyRequestedProperties() throws Exception {
+        mockMvc.perform(get("/api/tasks/tasks/filter")
+                        .param("fields", "id,title,assigned_to")
+                        .param("mode", "SLICE")
+                        .with(user(normalUser.getEmail()).roles("USER")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").exists())
+                .andExpect(jsonPath("$.content[0].title").exists())
+                .andExpect(jsonPath("$.content[0].description").doesNotExist())
+                .andExpect(jsonPath("$.content[0].status").doesNotExist());
+
+        mockMvc.perform(get("/api/tasks/tasks/filter")
+                        .param("fields", "id,secret")
+                        .with(user(normalUser.getEmail()).roles("USER")))
+                .andExpect(status().isBadRequest());
+
+        // without fields every property is written, including nulls
+        mockMvc.perform(get("/api/tasks/tasks/filter")
+                        .with(user(normalUser.getEmail()).roles("USER")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].description").hasJsonPath())
+                .andExpect(jsonPath("$.content[0].team_id").hasJsonPath());
+    }
+
+    @Test
+    void taskCache_shouldBeInspectableAndClearableByAdminOnly() throws Exception {
+        Task task = testTask;
+        mockMvc.perform(get("/api/tasks/" + task.getId()).with(user(normalUser.getEmail()).roles("USER")))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/tasks/" + task.getId()).with(user(normalUser.getEmail()).roles("USER")))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/admin/cache/tasks").with(user(adminUser.getEmail()).roles("ADMIN")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size").isNumber())
+                .andExpect(jsonPath("$.hitCount").value(greaterThanOrEqualTo(1)));
+
+        mockMvc.perform(delete("/api/admin/cache/tasks").with(user(normalUser.getEmail()).roles("USER")))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(delete("/api/admin/cache/tasks").with(user(adminUser.getEmail()).roles("ADMIN")))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/admin/cache/tasks").with(user(adminUser.getEmail()).roles("ADMIN")))
+                .andExpect(jsonPath("$.size").value(0));
+    }
+
+    @Test
+    void getTask_shouldReflectStatusChangeAfterCaching() throws Exception {
+        Task task = testTask;
+        mockMvc.perform(get("/api/tasks/" + task.getId()).with(user(normalUser.getEmail()).roles("USER")))
+                .andExpect(jsonPath("$.status").value("NEW"));
+
+        mockMvc.perform(patch("/api/tasks/" + task.getId() + "/status")
+                        .param("status", "REVIEW")
+                        .with(user(adminUser.getEmail()).roles("ADMIN")))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/tasks/" + task.getId()).with(user(normalUser.getEmail()).roles("USER")))
+                .andExpect(jsonPath("$.status").value("REVIEW"));
+    }
+
+    @Test
+    void statistics_shouldFollowTaskWrites() throws Exception {
+        User assignee = userRepository.save(new User("stats" + System.nanoTime(), "stats" + System.nanoTime() + "@example.com",
+                "password", "Stats", "Assignee", Role.USER));
+        TaskRequest request = new TaskRequest();
+        request.setTitle("Counted task");
+        request.setPriority(2);
+        request.setAssigned_to(assignee.getId());
+        String created = mockMvc.perform(post("/api/tasks")
+                        .with(user(adminUser.getEmail()).roles("ADMIN"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(asJsonString(request)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        long id = new ObjectMapper().readTree(created).get("id").asLong();
+
+        mockMvc.perform(get("/api/tasks/stats").with(user(normalUser.getEmail()).roles("USER")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.openByAssignee['" + assignee.getId() + "']").value(1));
+
+        mockMvc.perform(patch("/api/tasks/" + id + "/status")
+                        .param("status", "COMPLETED")
+                        .with(user(adminUser.getEmail()).roles("ADMIN")))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/tasks/stats").with(user(normalUser.getEmail()).roles("USER")))
+                .andExpect(jsonPath("$.openByAssignee['" + assignee.getId() + "']").doesNotExist());
+    }
+
+    @Test
+    void inbox_shouldListOpenAssignedTasksByDeadline() throws Exception {
+        User assignee = userRepository.save(new User("inbox" + System.nanoTime(), "inbox" + System.nanoTime() + "@example.com",
+                "password", "Inbox", "Owner", Role.USER));
+        long later = createAssignedTask("Later", LocalDateTime.now().plusDays(5), assignee);
+        long sooner = createAssignedTask("Sooner", LocalDateTime.now().plusDays(1), assignee);
+        long undated = createAssignedTask("Undated", null, assignee);
+
+        mockMvc.perform(get("/api/tasks/inbox").with(user(assignee.getEmail()).roles("USER")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].id").value(sooner))
+                .andExpect(jsonPath("$[1].id").value(later))
+                .andExpect(jsonPath("$[2].id").value(undated));
+
+        mockMvc.perform(patch("/api/tasks/" + sooner + "/status")
+                        .param("status", "COMPLETED")
+                        .with(user(adminUser.getEmail()).roles("ADMIN")))
+                .andExpect(status().isOk());
+        mockMvc.perform(patch("/api/tasks/{userId}/assign", normalUser.getId())
+                        .param("taskId", String.valueOf(later))
+                        .with(user(adminUser.getEmail()).roles("ADMIN")))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/tasks/inbox").param("limit", "5").with(user(assignee.getEmail()).roles("USER")))
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(undated));
+        mockMvc.perform(get("/api/tasks/inbox").param("limit", "0").with(user(assignee.getEmail()).roles("USER")))
+                .andExpect(status().isBadRequest());
+
+        // rows already keyed by these tasks are overwritten, not inserted twice
+        mockMvc.perform(patch("/api/tasks/" + sooner + "/status")
+                        .param("status", "IN_PROGRESS")
+                        .with(user(adminUser.getEmail()).roles("ADMIN")))
+                .andExpect(status().isOk());
+        User successor = userRepository.save(new User("inboxNext" + System.nanoTime(), "inbox-next" + System.nanoTime() + "@example.com",
+                "password", "Inbox", "Successor", Role.USER));
+        mockMvc.perform(patch("/api/tasks/bulk/reassign")
+                        .with(user(adminUser.getEmail()).roles("ADMIN"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"fromUserId\":" + assignee.getId() + ",\"toUserId\":" + successor.getId() + "}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/tasks/inbox").with(user(assignee.getEmail()).roles("USER")))
+                .andExpect(jsonPath("$.length()").value(0));
+        mockMvc.perform(get("/api/tasks/inbox").with(user(successor.getEmail()).roles("USER")))
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].id").value(sooner))
+                .andExpect(jsonPath("$[0].status").value("IN_PROGRESS"))
+                .andExpect(jsonPath("$[1].id").value(undated));
+    }
+
+    private long createAssignedTask(String title, LocalDateTime deadline, User assignee) throws Exception {
+        TaskRequest request = new TaskRequest();
+        request.setTitle(title);
+        request.setPriority(1);
+        request.setDeadline(deadline);
+        request.setAssigned_to(assignee.getId());
+        String created = mockMvc.perform(post("/api/tasks")
+                        .with(user(adminUser.getEmail()).roles("ADMIN"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(asJsonString(request)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return new ObjectMapper().readTree(created).get("id").asLong();
+    }
+}
@@ -0,0 +1,209 @@
+package myproject.taskflow.integration;
+
+import myproject.taskflow.dto.request.TaskFilter;
+import myproject.taskflow.entities.Team;
+import myproject.taskflow.entities.User;
+import myproject.taskflow.enums.Role;
+import myproject.taskflow.enums.TaskStatus;
+import myproject.taskflow.repositories.jpa.TaskRepository;
+import myproject.taskflow.repositories.jpa.TeamRepository;
+import myproject.taskflow.repositories.jpa.UserRepository;
+import myproject.taskflow.service.TaskCategoryService;
+import myproject.taskflow.specification.TaskKeyset;
+import myproject.taskflow.specification.TaskSpecification;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Seeds a large tasks table and checks the plan H2 picks for the SQL that TaskSpecification
+ * generates for the common filter shapes. Each shape must seek the index from the entity
+ * mappings that is meant to serve it; any other plan means that index went missing or no
+ * longer matches the query. The foreign keys of tasks are dropped first, so H2's own indexes
+ * on them cannot stand in for the composite indexes PostgreSQL relies on.
+ */
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestPropertySource(locations = "classpath:application-test.properties", properties = {
+        "spring.datasource.url=jdbc:h2:mem:taskplans;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.criteria.value_handling_mode=inline",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=myproject.taskflow.integration.TaskQueryPlanIntegrationTest$CapturingInspector"
+})
+public class TaskQueryPlanIntegrationTest {
+    private static final int SEEDED_TASKS = 20_000;
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private TaskCategoryService taskCategoryService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Long> userIds = new ArrayList<>();
+    private final List<Long> teamIds = new ArrayList<>();
+    private final List<Integer> categoryIds = new ArrayList<>();
+
+    @BeforeAll
+    void seed() {
+        // H2 backs each foreign key with an index of its own, PostgreSQL does not; drop them so a
+        // shape only finds the indexes declared on Task, as it would there
+        jdbcTemplate.queryForList("select constraint_name from information_schema.table_constraints " +
+                        "where table_name = 'TASKS' and constraint_type = 'FOREIGN KEY'", String.class)
+                .forEach(constraint -> jdbcTemplate.execute("alter table tasks drop constraint " + constraint));
+        for (int i = 0; i < 40; i++) {
+            userIds.add(userRepository.save(new User("plan" + i, "plan" + i + "@example.com", "password", "Plan", "User", Role.USER)).getId());
+        }
+        User owner = userRepository.getReferenceById(userIds.get(0));
+        for (int i = 0; i < 10; i++) {
+            Team team = new Team();
+            team.setName("Plan team " + i);
+            team.setCreatedBy(owner);
+            teamIds.add(teamRepository.save(team).getId());
+        }
+        for (int i = 0; i < 20; i++) {
+            categoryIds.add(taskCategoryService.resolve("cat" + i));
+        }
+        TaskStatus[] statuses = TaskStatus.values();
+        List<Object[]> rows = new ArrayList<>(SEEDED_TASKS);
+        for (int i = 0; i < SEEDED_TASKS; i++) {
+            rows.add(new Object[]{
+                    10_000_000L + i,
+                    "Seeded task " + i,
+                    statuses[i % statuses.length].name(),
+                    i % 5 + 1,
+                    "cat" + i % 20,
+                    categoryIds.get(i % 20),
+                    userIds.get(i % userIds.size()),
+                    userIds.get((i * 7) % userIds.size()),
+                    teamIds.get(i % teamIds.size()),
+                    Timestamp.valueOf(BASE.plusHours(i)),
+                    Timestamp.valueOf(BASE.plusMinutes(i))
+            });
+        }
+        jdbcTemplate.batchUpdate("insert into tasks (id, title, status, priority, category, category_id, created_by, assigned_to, team_id, deadline, created_at) " +
+                "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+        jdbcTemplate.execute("analyze");
+    }
+
+    Stream<Arguments> filterShapes() {
+        return Stream.of(
+                Arguments.of("assignee", "IX_TASKS_ASSIGNED_TO_STATUS", filter(f -> f.setAssignedToId(userIds.get(3)))),
+                Arguments.of("assignee + status", "IX_TASKS_ASSIGNED_TO_STATUS", filter(f -> {
+                    f.setAssignedToId(userIds.get(3));
+                    f.setStatus(TaskStatus.IN_PROGRESS);
+                })),
+                Arguments.of("creator + status", "IX_TASKS_CREATED_BY_STATUS", filter(f -> {
+                    f.setCreatedById(userIds.get(5));
+                    f.setStatus(TaskStatus.REVIEW);
+                })),
+                Arguments.of("team", "IX_TASKS_TEAM_ID_STATUS", filter(f -> f.setTeamId(teamIds.get(2)))),
+                Arguments.of("team + status", "IX_TASKS_TEAM_ID_STATUS", filter(f -> {
+                    f.setTeamId(teamIds.get(2));
+                    f.setStatus(TaskStatus.NEW);
+                })),
+                Arguments.of("category", "IX_TASKS_CATEGORY_ID_STATUS", filter(f -> f.setCategory("Cat7"))),
+                Arguments.of("category prefix + status", "IX_TASKS_CATEGORY_ID_STATUS", filter(f -> {
+                    f.setCategoryPrefix("cat1");
+                    f.setStatus(TaskStatus.COMPLETED);
+                })),
+                Arguments.of("deadline range", "IX_TASKS_DEADLINE", filter(f -> {
+                    f.setDeadlineFrom(offset(BASE.plusDays(10)));
+                    f.setDeadlineTo(offset(BASE.plusDays(12)));
+                })),
+                Arguments.of("created range", "IX_TASKS_CREATED_AT_ID", filter(f -> {
+                    f.setCreatedAtFrom(offset(BASE.plusHours(5)));
+                    f.setCreatedAtTo(offset(BASE.plusHours(6)));
+                }))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("filterShapes")
+    void filterShape_shouldSeekItsIndex(String shape, String index, TaskFilter filter) {
+        CapturingInspector.last.remove();
+        taskRepository.count(new TaskSpecification(filter, taskCategoryService.matching(filter)));
+        String sql = CapturingInspector.last.get();
+
+        String plan = jdbcTemplate.queryForObject("explain " + sql, String.class);
+
+        assertFalse(plan.contains("tableScan"), shape + " falls back to a table scan:\n" + plan);
+        // H2 prints "/* PUBLIC.<index>: <condition> */" for an index lookup; a bare index name is a full index scan.
+        // The index is named, since H2's own foreign key indexes would otherwise hide a dropped composite one
+        assertTrue(plan.contains("/* PUBLIC." + index + ": "), shape + " does not seek " + index + ":\n" + plan);
+    }
+
+    Stream<Arguments> deepCursors() {
+        return Stream.of(
+                Arguments.of("createdAt asc", "IX_TASKS_CREATED_AT_ID", "createdAt", "asc", 19_000),
+                Arguments.of("priority desc", "IX_TASKS_PRIORITY_ID", "priority", "desc", 19_000),
+                Arguments.of("title asc", "IX_TASKS_TITLE_ID", "title", "asc", 9_990),
+                Arguments.of("status asc", "IX_TASKS_STATUS_ID", "status", "asc", 19_000)
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("deepCursors")
+    void deepCursorPage_shouldSeekItsIndex(String shape, String index, String sortBy, String sortDir, int position) {
+        TaskFilter filter = new TaskFilter();
+        String cursor = TaskKeyset.first(sortBy, sortDir).next(taskRepository.findById(10_000_000L + position).orElseThrow());
+        CapturingInspector.last.remove();
+        taskRepository.count(Specification.where(new TaskSpecification(filter, taskCategoryService.matching(filter)))
+                .and(TaskKeyset.decode(cursor).after()));
+        String sql = CapturingInspector.last.get();
+
+        String plan = jdbcTemplate.queryForObject("explain " + sql, String.class);
+
+        assertFalse(plan.contains("tableScan"), shape + " falls back to a table scan:\n" + plan);
+        assertTrue(plan.contains("/* PUBLIC." + index + ": "), shape + " does not seek " + index + ":\n" + plan);
+    }
+
+    private static TaskFilter filter(Consumer<TaskFilter> customizer) {
+        TaskFilter filter = new TaskFilter();
+        customizer.accept(filter);
+        return filter;
+    }
+
+    private static OffsetDateTime offset(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toOffsetDateTime();
+    }
+
+    public static class CapturingInspector implements StatementInspector {
+        static final ThreadLocal<String> last = new ThreadLocal<>();
+
+        @Override
+        public String inspect(String sql) {
+            last.set(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package myproject.taskflow.repositories;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import myproject.taskflow.enums.TaskStatus;
+import myproject.taskflow.repositories.jdbc.TaskJdbcRepository;
+import myproject.taskflow.repositories.jpa.TaskState;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * The single-task writes read the previous state in the same statement on PostgreSQL and
+ * lock the row first elsewhere. H2 cannot run the PostgreSQL statements, so these tests pin
+ * which statements each dialect sends and the order of their arguments.
+ */
+@ExtendWith(MockitoExtension.class)
+public class TaskJdbcRepositoryTest {
+    private static final TaskState BEFORE = new TaskState(TaskStatus.NEW, 3, 4L, 7L, null);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private SessionFactoryImplementor sessionFactory;
+
+    private TaskJdbcRepository repository(Dialect dialect) {
+        when(entityManagerFactory.unwrap(SessionFactoryImplementor.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getJdbcServices().getDialect()).thenReturn(dialect);
+        return new TaskJdbcRepository(jdbcTemplate, new ObjectMapper(), entityManagerFactory);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void updateStatusIfPermitted_shouldReturnThePreviousStateFromOneStatementOnPostgres() {
+        TaskJdbcRepository repository = repository(new PostgreSQLDialect());
+        when(jdbcTemplate.query(eq("update tasks t set status = ? from (select id, status from tasks where id = ? " +
+                        "and (created_by = ? or assigned_to = ?) for update) old where t.id = old.id " +
+                        "returning old.status, t.priority, t.team_id, t.assigned_to, t.deadline"),
+                any(RowMapper.class), eq("COMPLETED"), eq(5L), eq(7L), eq(7L)))
+                .thenReturn(List.of(BEFORE));
+
+        Optional<TaskState> before = repository.updateStatusIfPermitted(5L, TaskStatus.COMPLETED, 7L, false);
+
+        assertSame(BEFORE, before.orElseThrow());
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void reassignIfPermitted_shouldBindTheAssigneeAroundTheLockOnPostgres() {
+        TaskJdbcRepository repository = repository(new PostgreSQLDialect());
+        when(jdbcTemplate.query(eq("update tasks t set assigned_to = ? from (select id, assigned_to from tasks where id = ? " +
+                        "and created_by = ? and exists (select 1 from users where id = ?) for update) old where t.id = old.id " +
+                        "returning t.status, t.priority, t.team_id, old.assigned_to, t.deadline"),
+                any(RowMapper.class), eq(9L), eq(5L), eq(7L), eq(9L)))
+                .thenReturn(List.of());
+
+        assertTrue(repository.reassignIfPermitted(5L, 9L, 7L, false).isEmpty());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deleteIfPermitted_shouldReturnTheDeletedStateOnPostgres() {
+        TaskJdbcRepository repository = repository(new PostgreSQLDialect());
+        when(jdbcTemplate.query(eq("delete from tasks where id = ? returning status, priority, team_id, assigned_to, deadline"),
+                any(RowMapper.class), eq(5L)))
+                .thenReturn(List.of(BEFORE));
+
+        assertSame(BEFORE, repository.deleteIfPermitted(5L, 7L, true).orElseThrow());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void updateStatusIfPermitted_shouldLockThenUpdateElsewhere() {
+        TaskJdbcRepository repository = repository(new H2Dialect());
+        when(jdbcTemplate.query(eq("select status, priority, team_id, assigned_to, deadline from tasks where id = ? " +
+                        "and (created_by = ? or assigned_to = ?) for update"),
+                any(RowMapper.class), eq(5L), eq(7L), eq(7L)))
+                .thenReturn(List.of(BEFORE));
+
+        Optional<TaskState> before = repository.updateStatusIfPermitted(5L, TaskStatus.COMPLETED, 7L, false);
+
+        assertSame(BEFORE, before.orElseThrow());
+        verify(jdbcTemplate).update("update tasks set status = ? where id = ?", "COMPLETED", 5L);
+    }
+}
@@ -10,7 +10,6 @@ import myproject.taskflow.dto.response.SimpleResponse;
 import myproject.taskflow.entities.RefreshToken;
 import myproject.taskflow.entities.User;
 import myproject.taskflow.enums.Role;
-import myproject.taskflow.repositories.jpa.RefreshTokenRepository;
 import myproject.taskflow.repositories.jpa.UserRepository;
 import myproject.taskflow.service.impl.AuthServiceImpl;
 import org.junit.jupiter.api.Test;
@@ -39,8 +38,6 @@ public class AuthServiceTest {
     private JwtService jwtService;
     @Mock
     private RefreshTokenService refreshTokenService;
-    @Mock
-    private RefreshTokenRepository refreshTokenRepository;
 
     @InjectMocks
     private AuthServiceImpl authService;
@@ -93,6 +90,27 @@ public class AuthServiceTest {
         verify(jwtService).generateToken(user);
     }
 
+    @Test
+    void login_rehashesPasswordWithOutdatedWorkFactor() {
+        LoginRequest req = new LoginRequest("email@test.com", "pass");
+        User user = new User();
+        user.setId(1L);
+        user.setNickname("nick");
+        user.setEmail(req.getEmail());
+        user.setPassword("oldHash");
+        user.setRole(Role.USER);
+
+        when(userRepository.findUserByEmail(req.getEmail())).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches(req.getPassword(), "oldHash")).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("oldHash")).thenReturn(true);
+        when(passwordEncoder.encode(req.getPassword())).thenReturn("newHash");
+
+        authService.login(req);
+
+        assertEquals("newHash", user.getPassword());
+        verify(userRepository).save(user);
+    }
+
     @Test
     void login_userNotFound() {
         when(userRepository.findUserByEmail(anyString())).thenReturn(Optional.empty());
@@ -119,12 +137,12 @@ public class AuthServiceTest {
 
         RefreshToken token = new RefreshToken();
         token.setId(1L);
-        token.setToken("refreshToken");
+        token.setTokenHash("hash");
         token.setUser(user);
         token.setExpiryDate(LocalDateTime.now().plusDays(1));
         token.setRevoked(false);
 
-        when(refreshTokenRepository.findByToken("refreshToken")).thenReturn(Optional.of(token));
+        when(refreshTokenService.getValidToken("refreshToken")).thenReturn(token);
         when(jwtService.generateToken(user)).thenReturn("newAccessToken");
 
         RefreshTokenResponse resp = authService.refreshAccessToken("refreshToken");
@@ -135,48 +153,25 @@ public class AuthServiceTest {
 
     @Test
     void refreshAccessToken_tokenNotFound() {
-        when(refreshTokenRepository.findByToken(anyString())).thenReturn(Optional.empty());
+        when(refreshTokenService.getValidToken(anyString())).thenThrow(new RuntimeException("Refresh token not found"));
         assertThrows(RuntimeException.class, () -> authService.refreshAccessToken("invalid"));
-        verify(refreshTokenRepository).findByToken(anyString());
-    }
-
-    @Test
-    void refreshAccessToken_expiredOrRevoked() {
-        RefreshToken token = new RefreshToken();
-        token.setExpiryDate(LocalDateTime.now().minusMinutes(1));
-        token.setRevoked(false);
-        when(refreshTokenRepository.findByToken("refresh")).thenReturn(Optional.of(token));
-        assertThrows(RuntimeException.class, () -> authService.refreshAccessToken("refresh"));
-        verify(refreshTokenRepository).findByToken("refresh");
-
-        reset(refreshTokenRepository);
-        token.setExpiryDate(LocalDateTime.now().plusMinutes(10));
-        token.setRevoked(true);
-        when(refreshTokenRepository.findByToken("refresh")).thenReturn(Optional.of(token));
-        assertThrows(RuntimeException.class, () -> authService.refreshAccessToken("refresh"));
-        verify(refreshTokenRepository).findByToken("refresh");
+        verify(refreshTokenService).getValidToken(anyString());
+        verify(jwtService, never()).generateToken(any(User.class));
     }
 
     @Test
     void logout_success() {
-        RefreshToken token = new RefreshToken();
-        token.setToken("refresh");
-        token.setRevoked(false);
-
-        when(refreshTokenRepository.findByToken("refresh")).thenReturn(Optional.of(token));
-
         LogOutResponse resp = authService.logout("refresh");
 
-        assertTrue(token.getRevoked());
         assertEquals(HttpStatus.OK, resp.getStatus());
-        verify(refreshTokenRepository).save(token);
+        verify(refreshTokenService).revoke("refresh");
     }
 
     @Test
     void logout_tokenNotFound() {
-        when(refreshTokenRepository.findByToken(anyString())).thenReturn(Optional.empty());
+        doThrow(new RuntimeException("Refresh token not found")).when(refreshTokenService).revoke(anyString());
         assertThrows(RuntimeException.class, () -> authService.logout("invalid"));
-        verify(refreshTokenRepository).findByToken(anyString());
+        verify(refreshTokenService).revoke(anyString());
     }
 
     @Test
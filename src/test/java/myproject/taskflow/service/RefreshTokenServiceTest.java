@@ -0,0 +1,107 @@
+package myproject.taskflow.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import myproject.taskflow.entities.RefreshToken;
+import myproject.taskflow.entities.User;
+import myproject.taskflow.repositories.jpa.RefreshTokenRepository;
+import myproject.taskflow.service.impl.RefreshTokenServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RefreshTokenServiceTest {
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private RefreshTokenServiceImpl refreshTokenService;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenService = new RefreshTokenServiceImpl(refreshTokenRepository, 100, new SimpleMeterRegistry());
+    }
+
+    private String issueToken(RefreshToken stored) {
+        User user = new User();
+        user.setId(1L);
+        when(refreshTokenRepository.findByUserId(1L)).thenReturn(Optional.empty());
+        when(refreshTokenRepository.save(any(RefreshToken.class))).thenAnswer(i -> {
+            RefreshToken saved = i.getArgument(0);
+            stored.setTokenHash(saved.getTokenHash());
+            stored.setExpiryDate(saved.getExpiryDate());
+            stored.setRevoked(saved.getRevoked());
+            return saved;
+        });
+        return refreshTokenService.createRefreshToken(user);
+    }
+
+    @Test
+    void createRefreshToken_storesHashOnly() {
+        RefreshToken stored = new RefreshToken();
+        String rawToken = issueToken(stored);
+
+        assertNotEquals(rawToken, stored.getTokenHash());
+        assertEquals(64, stored.getTokenHash().length());
+    }
+
+    @Test
+    void getValidToken_looksUpByHash() {
+        RefreshToken stored = new RefreshToken();
+        String rawToken = issueToken(stored);
+        when(refreshTokenRepository.findByTokenHash(stored.getTokenHash())).thenReturn(Optional.of(stored));
+
+        assertSame(stored, refreshTokenService.getValidToken(rawToken));
+    }
+
+    @Test
+    void revokedToken_isRejectedWithoutDatabaseLookup() {
+        RefreshToken stored = new RefreshToken();
+        String rawToken = issueToken(stored);
+        when(refreshTokenRepository.findByTokenHash(stored.getTokenHash())).thenReturn(Optional.of(stored));
+
+        refreshTokenService.revoke(rawToken);
+        assertTrue(stored.getRevoked());
+
+        assertThrows(RuntimeException.class, () -> refreshTokenService.getValidToken(rawToken));
+        verify(refreshTokenRepository, times(1)).findByTokenHash(anyString());
+    }
+
+    @Test
+    void expiredToken_isRejectedAndCached() {
+        RefreshToken stored = new RefreshToken();
+        String rawToken = issueToken(stored);
+        stored.setExpiryDate(LocalDateTime.now().minusMinutes(1));
+        when(refreshTokenRepository.findByTokenHash(stored.getTokenHash())).thenReturn(Optional.of(stored));
+
+        assertThrows(RuntimeException.class, () -> refreshTokenService.getValidToken(rawToken));
+        assertThrows(RuntimeException.class, () -> refreshTokenService.getValidToken(rawToken));
+        verify(refreshTokenRepository, times(1)).findByTokenHash(anyString());
+    }
+
+    @Test
+    void createRefreshToken_rotatesExistingRow() {
+        User user = new User();
+        user.setId(1L);
+        RefreshToken existing = new RefreshToken(user, "old-hash", LocalDateTime.now().plusDays(1));
+        existing.setRevoked(true);
+        when(refreshTokenRepository.findByUserId(1L)).thenReturn(Optional.of(existing));
+
+        String rawToken = refreshTokenService.createRefreshToken(user);
+
+        assertNotEquals("old-hash", existing.getTokenHash());
+        assertFalse(existing.getRevoked());
+        verify(refreshTokenRepository, never()).save(any());
+        when(refreshTokenRepository.findByTokenHash(existing.getTokenHash())).thenReturn(Optional.of(existing));
+        assertSame(existing, refreshTokenService.getValidToken(rawToken));
+    }
+}
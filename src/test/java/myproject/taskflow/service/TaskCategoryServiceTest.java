@@ -0,0 +1,94 @@
+package myproject.taskflow.service;
+
+import myproject.taskflow.dto.request.TaskFilter;
+import myproject.taskflow.entities.TaskCategory;
+import myproject.taskflow.repositories.jpa.TaskCategoryRepository;
+import myproject.taskflow.service.impl.TaskCategoryServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskCategoryServiceTest {
+
+    @Mock
+    private TaskCategoryRepository taskCategoryRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TaskCategoryServiceImpl taskCategoryService;
+
+    @BeforeEach
+    void setUp() {
+        taskCategoryService = new TaskCategoryServiceImpl(taskCategoryRepository, transactionManager);
+        ReflectionTestUtils.setField(taskCategoryService, "maxPrefixMatches", 2);
+        when(taskCategoryRepository.findAll()).thenReturn(List.of(
+                category(1, "backend"), category(2, "backend-api"), category(3, "frontend")));
+        taskCategoryService.reload();
+    }
+
+    private static TaskCategory category(Integer id, String name) {
+        TaskCategory category = new TaskCategory(name);
+        category.setId(id);
+        return category;
+    }
+
+    @Test
+    void resolve_shouldUseCanonicalNameFromCache() {
+        assertEquals(1, taskCategoryService.resolve("  BackEnd "));
+        assertNull(taskCategoryService.resolve(" "));
+        verify(taskCategoryRepository, never()).findByName(any());
+    }
+
+    @Test
+    void resolve_shouldCreateUnknownCategoryOnce() {
+        when(taskCategoryRepository.findByName("ops")).thenReturn(Optional.empty());
+        when(taskCategoryRepository.saveAndFlush(any(TaskCategory.class))).thenReturn(category(4, "ops"));
+
+        assertEquals(4, taskCategoryService.resolve("Ops"));
+        assertEquals(4, taskCategoryService.resolve("ops"));
+
+        verify(taskCategoryRepository, times(1)).saveAndFlush(any(TaskCategory.class));
+    }
+
+    @Test
+    void matching_shouldCombineExactAndPrefix() {
+        TaskFilter filter = new TaskFilter();
+        assertNull(taskCategoryService.matching(filter));
+
+        filter.setCategoryPrefix("Back");
+        assertEquals(Set.of(1, 2), taskCategoryService.matching(filter));
+
+        filter.setCategory("backend-api");
+        assertEquals(Set.of(2), taskCategoryService.matching(filter));
+
+        filter.setCategory("frontend");
+        assertEquals(Set.of(), taskCategoryService.matching(filter));
+    }
+
+    @Test
+    void matching_shouldRejectTooBroadPrefix() {
+        TaskFilter filter = new TaskFilter();
+        filter.setCategoryPrefix("end");
+        assertEquals(Set.of(), taskCategoryService.matching(filter));
+
+        filter.setCategoryPrefix("");
+        assertNull(taskCategoryService.matching(filter));
+
+        ReflectionTestUtils.setField(taskCategoryService, "maxPrefixMatches", 1);
+        filter.setCategoryPrefix("b");
+        assertThrows(ResponseStatusException.class, () -> taskCategoryService.matching(filter));
+    }
+}
@@ -0,0 +1,157 @@
+package myproject.taskflow.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import myproject.taskflow.enums.TaskDeadlineType;
+import myproject.taskflow.enums.TaskStatus;
+import myproject.taskflow.events.TaskDeadlineEvent;
+import myproject.taskflow.repositories.jdbc.TaskJdbcRepository;
+import myproject.taskflow.service.impl.TaskDeadlineServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskDeadlineServiceTest {
+
+    @Mock
+    private TaskJdbcRepository taskJdbcRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private TaskDeadlineServiceImpl taskDeadlineService;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        taskDeadlineService = new TaskDeadlineServiceImpl(taskJdbcRepository, eventPublisher,
+                Duration.ofSeconds(1), Duration.ofHours(1), Duration.ofMinutes(10), Duration.ZERO, meterRegistry);
+        now = LocalDateTime.now();
+    }
+
+    private List<TaskDeadlineEvent> published() {
+        ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, atLeast(0)).publishEvent(events.capture());
+        clearInvocations(eventPublisher);
+        return events.getAllValues().stream().map(TaskDeadlineEvent.class::cast).toList();
+    }
+
+    private double backlog() {
+        return meterRegistry.get("taskflow.tasks.deadlines.backlog").gauge().value();
+    }
+
+    @Test
+    void taskChanged_shouldFireReminderThenOverdue() {
+        taskDeadlineService.taskChanged(1L, TaskStatus.NEW, now.plusMinutes(30));
+        assertEquals(2, backlog());
+
+        taskDeadlineService.advance(now.plusMinutes(19));
+        assertTrue(published().isEmpty());
+
+        taskDeadlineService.advance(now.plusMinutes(21));
+        List<TaskDeadlineEvent> reminders = published();
+        assertEquals(1, reminders.size());
+        assertEquals(1L, reminders.get(0).getTaskId());
+        assertEquals(TaskDeadlineType.REMINDER, reminders.get(0).getType());
+
+        taskDeadlineService.advance(now.plusMinutes(31));
+        List<TaskDeadlineEvent> overdue = published();
+        assertEquals(1, overdue.size());
+        assertEquals(TaskDeadlineType.OVERDUE, overdue.get(0).getType());
+        assertEquals(0, backlog());
+        assertEquals(1, meterRegistry.get("taskflow.tasks.deadlines.fired").tag("type", "OVERDUE").counter().count());
+    }
+
+    @Test
+    void taskChanged_shouldRescheduleAndCancel() {
+        taskDeadlineService.taskChanged(2L, TaskStatus.NEW, now.plusMinutes(40));
+        taskDeadlineService.taskChanged(2L, TaskStatus.IN_PROGRESS, now.plusMinutes(50));
+        taskDeadlineService.taskChanged(3L, TaskStatus.NEW, now.plusMinutes(40));
+        taskDeadlineService.taskChanged(3L, TaskStatus.COMPLETED, now.plusMinutes(40));
+        // beyond the horizon, left to a later reload
+        taskDeadlineService.taskChanged(4L, TaskStatus.NEW, now.plusHours(3));
+        assertEquals(2, backlog());
+
+        taskDeadlineService.advance(now.plusMinutes(45));
+        List<TaskDeadlineEvent> events = published();
+        assertEquals(1, events.size());
+        assertEquals(2L, events.get(0).getTaskId());
+        assertEquals(TaskDeadlineType.REMINDER, events.get(0).getType());
+    }
+
+    @Test
+    void taskChanged_shouldRemindRightAwayInsideTheReminderWindow() {
+        taskDeadlineService.taskChanged(5L, TaskStatus.NEW, now.plusMinutes(5));
+
+        taskDeadlineService.advance(now.plusSeconds(2));
+
+        List<TaskDeadlineEvent> events = published();
+        assertEquals(1, events.size());
+        assertEquals(TaskDeadlineType.REMINDER, events.get(0).getType());
+    }
+
+    @Test
+    void reload_shouldSkipFireTimesThatAlreadyPassed() {
+        taskDeadlineService.taskChanged(6L, TaskStatus.NEW, now.plusMinutes(30));
+        when(taskJdbcRepository.findOpenDeadlines(any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(Map.of(7L, now.plusMinutes(5)));
+
+        taskDeadlineService.reload();
+
+        assertEquals(1, backlog());
+        taskDeadlineService.advance(now.plusMinutes(6));
+        List<TaskDeadlineEvent> events = published();
+        assertEquals(1, events.size());
+        assertEquals(7L, events.get(0).getTaskId());
+        assertEquals(TaskDeadlineType.OVERDUE, events.get(0).getType());
+    }
+
+    @Test
+    void reload_shouldFireWhatFellDueSinceTheLastTick() {
+        taskDeadlineService.taskChanged(8L, TaskStatus.NEW, now.plusMinutes(5));
+        taskDeadlineService.advance(now.plusSeconds(2));
+        assertEquals(TaskDeadlineType.REMINDER, published().get(0).getType());
+
+        // the overdue time passes without a tick, and the reload only reads deadlines after it
+        taskDeadlineService.reload(now.plusMinutes(6));
+
+        List<TaskDeadlineEvent> events = published();
+        assertEquals(1, events.size());
+        assertEquals(8L, events.get(0).getTaskId());
+        assertEquals(TaskDeadlineType.OVERDUE, events.get(0).getType());
+        assertEquals(0, backlog());
+    }
+
+    @Test
+    void reload_shouldReplayDeadlinesMissedBeforeStartupOnce() {
+        taskDeadlineService = new TaskDeadlineServiceImpl(taskJdbcRepository, eventPublisher,
+                Duration.ofSeconds(1), Duration.ofHours(1), Duration.ofMinutes(10), Duration.ofHours(2), meterRegistry);
+        when(taskJdbcRepository.findOpenDeadlines(any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(Map.of(9L, now.minusMinutes(20)));
+
+        taskDeadlineService.reload(now);
+        taskDeadlineService.advance(now.plusSeconds(2));
+
+        verify(taskJdbcRepository).findOpenDeadlines(now.minusHours(2), now.plusMinutes(70));
+        List<TaskDeadlineEvent> events = published();
+        assertEquals(1, events.size());
+        assertEquals(9L, events.get(0).getTaskId());
+        assertEquals(TaskDeadlineType.OVERDUE, events.get(0).getType());
+
+        taskDeadlineService.reload(now.plusSeconds(3));
+        taskDeadlineService.advance(now.plusSeconds(5));
+        assertTrue(published().isEmpty());
+    }
+}
@@ -1,37 +1,60 @@
 package myproject.taskflow.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import myproject.taskflow.config.cache.TaskFilterCache;
+import myproject.taskflow.config.cache.TaskResponseCache;
+import myproject.taskflow.config.security.CurrentUser;
+import myproject.taskflow.dto.request.BulkReassignRequest;
+import myproject.taskflow.dto.request.BulkStatusRequest;
 import myproject.taskflow.dto.request.RegisterRequest;
+import myproject.taskflow.dto.request.TaskFilter;
 import myproject.taskflow.dto.request.TaskRequest;
 import myproject.taskflow.dto.request.TaskUpdateRequest;
+import myproject.taskflow.dto.response.BulkUpdateResponse;
+import myproject.taskflow.dto.response.EstimatedPage;
 import myproject.taskflow.dto.response.SimpleResponse;
 import myproject.taskflow.dto.response.TaskResponse;
 import myproject.taskflow.entities.Task;
 import myproject.taskflow.entities.User;
 import myproject.taskflow.enums.Role;
+import myproject.taskflow.enums.TaskField;
+import myproject.taskflow.enums.TaskPageMode;
 import myproject.taskflow.enums.TaskStatus;
+import myproject.taskflow.repositories.jdbc.TaskJdbcRepository;
 import myproject.taskflow.repositories.jpa.TaskRepository;
+import myproject.taskflow.repositories.jpa.TaskState;
 import myproject.taskflow.repositories.jpa.TeamRepository;
 import myproject.taskflow.repositories.jpa.UserRepository;
 import myproject.taskflow.service.impl.TaskServiceImpl;
+import myproject.taskflow.specification.TaskSpecification;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.access.AccessDeniedException;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContext;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 public class TaskServiceTest {
+    private static final TaskState OPEN_TASK = new TaskState(TaskStatus.NEW, 3, null, 2L, null);
 
     @Mock
     private TaskRepository taskRepository;
@@ -39,6 +62,24 @@ public class TaskServiceTest {
     private UserRepository userRepository;
     @Mock
     private TeamRepository teamRepository;
+    @Mock
+    private CurrentUser currentUser;
+    @Mock
+    private TaskJdbcRepository taskJdbcRepository;
+    @Mock
+    private TaskCategoryService taskCategoryService;
+    @Mock
+    private TaskStatisticsService taskStatisticsService;
+    @Mock
+    private TaskInboxService taskInboxService;
+    @Mock
+    private TaskDeadlineService taskDeadlineService;
+    @Mock
+    private OutboxService outboxService;
+    @Spy
+    private TaskResponseCache taskResponseCache = new TaskResponseCache(100, Duration.ofMinutes(1), new SimpleMeterRegistry());
+    @Spy
+    private TaskFilterCache taskFilterCache = new TaskFilterCache(100, Duration.ofMinutes(1), 2, new SimpleMeterRegistry());
 
     @InjectMocks
     private TaskServiceImpl taskService;
@@ -63,12 +104,9 @@ public class TaskServiceTest {
         return task;
     }
 
-    private void mockSecurityContext(String email) {
-        Authentication auth = Mockito.mock(Authentication.class);
-        when(auth.getName()).thenReturn(email);
-        SecurityContext securityContext = Mockito.mock(SecurityContext.class);
-        when(securityContext.getAuthentication()).thenReturn(auth);
-        SecurityContextHolder.setContext(securityContext);
+    private void mockCurrentUser(User user) {
+        lenient().when(currentUser.getId()).thenReturn(user.getId());
+        lenient().when(currentUser.isManagerOrAdmin()).thenReturn(user.getRole() == Role.MANAGER || user.getRole() == Role.ADMIN);
     }
 
     @Test
@@ -78,9 +116,9 @@ public class TaskServiceTest {
         User creator = createUser(1L, "creator@test.com", "USER");
         User assigned = createUser(2L, "assigned@test.com", "USER");
 
-        mockSecurityContext("creator@test.com");
 
-        when(userRepository.findUserByEmail("creator@test.com")).thenReturn(Optional.of(creator));
+        mockCurrentUser(creator);
+        when(userRepository.getReferenceById(1L)).thenReturn(creator);
         when(userRepository.findById(2L)).thenReturn(Optional.of(assigned));
 
         TaskRequest taskRequest = new TaskRequest();
@@ -116,10 +154,9 @@ public class TaskServiceTest {
 
         Task task = createTask(100L, owner, assigned);
 
-        mockSecurityContext("owner@test.com");
 
-        when(taskRepository.findById(100L)).thenReturn(Optional.of(task));
-        when(userRepository.findUserByEmail("owner@test.com")).thenReturn(Optional.of(updater));
+        when(taskRepository.findByIdForUpdate(100L)).thenReturn(Optional.of(task));
+        mockCurrentUser(updater);
 
         TaskUpdateRequest updateRequest = new TaskUpdateRequest();
         updateRequest.setTitle("new title");
@@ -147,10 +184,9 @@ public class TaskServiceTest {
 
         Task task = createTask(100L, owner, assigned);
 
-        mockSecurityContext("assigned@test.com");
 
-        when(taskRepository.findById(100L)).thenReturn(Optional.of(task));
-        when(userRepository.findUserByEmail("assigned@test.com")).thenReturn(Optional.of(updater));
+        when(taskRepository.findByIdForUpdate(100L)).thenReturn(Optional.of(task));
+        mockCurrentUser(updater);
 
         TaskUpdateRequest updateRequest = new TaskUpdateRequest();
         updateRequest.setTitle("updated title");
@@ -177,10 +213,9 @@ public class TaskServiceTest {
 
         Task task = createTask(100L, owner, assigned);
 
-        mockSecurityContext("manager@test.com");
 
-        when(taskRepository.findById(100L)).thenReturn(Optional.of(task));
-        when(userRepository.findUserByEmail("manager@test.com")).thenReturn(Optional.of(manager));
+        when(taskRepository.findByIdForUpdate(100L)).thenReturn(Optional.of(task));
+        mockCurrentUser(manager);
 
         TaskUpdateRequest updateRequest = new TaskUpdateRequest();
         updateRequest.setTitle("manager updated");
@@ -208,10 +243,9 @@ public class TaskServiceTest {
 
         Task task = createTask(100L, owner, assigned);
 
-        mockSecurityContext("stranger@test.com");
 
-        when(taskRepository.findById(100L)).thenReturn(Optional.of(task));
-        when(userRepository.findUserByEmail("stranger@test.com")).thenReturn(Optional.of(stranger));
+        when(taskRepository.findByIdForUpdate(100L)).thenReturn(Optional.of(task));
+        mockCurrentUser(stranger);
 
         TaskUpdateRequest updateRequest = new TaskUpdateRequest();
         updateRequest.setTitle("should not update");
@@ -233,52 +267,260 @@ public class TaskServiceTest {
     @Test
     void deleteTask_byOwner_success() {
         User owner = createUser(1L, "owner@test.com", "USER");
-        Task task = createTask(200L, owner, null);
-
-        mockSecurityContext("owner@test.com");
+        mockCurrentUser(owner);
 
-        when(taskRepository.findById(200L)).thenReturn(Optional.of(task));
-        when(userRepository.findUserByEmail("owner@test.com")).thenReturn(Optional.of(owner));
+        when(taskJdbcRepository.deleteIfPermitted(200L, 1L, false)).thenReturn(Optional.of(OPEN_TASK));
 
         SimpleResponse response = taskService.deleteTask(200L);
 
         assertEquals("Successfully Deleted!", response.getMessage());
-        verify(taskRepository).delete(task);
+        verify(taskRepository, never()).findById(any());
     }
 
     @Test
     void deleteTask_byManager_success() {
-        User owner = createUser(1L, "owner@test.com", "USER");
         User manager = createUser(3L, "manager@test.com", "MANAGER");
-        Task task = createTask(200L, owner, null);
+        mockCurrentUser(manager);
 
-        mockSecurityContext("manager@test.com");
-
-        when(taskRepository.findById(200L)).thenReturn(Optional.of(task));
-        when(userRepository.findUserByEmail("manager@test.com")).thenReturn(Optional.of(manager));
+        when(taskJdbcRepository.deleteIfPermitted(200L, 3L, true)).thenReturn(Optional.of(OPEN_TASK));
 
         SimpleResponse response = taskService.deleteTask(200L);
 
         assertEquals("Successfully Deleted!", response.getMessage());
-        verify(taskRepository).delete(task);
     }
 
     @Test
     void deleteTask_byUnauthorizedUser_fail() {
-        User owner = createUser(1L, "owner@test.com", "USER");
         User stranger = createUser(4L, "stranger@test.com", "USER");
-        Task task = createTask(200L, owner, null);
+        mockCurrentUser(stranger);
 
-        mockSecurityContext("stranger@test.com");
-
-        when(taskRepository.findById(200L)).thenReturn(Optional.of(task));
-        when(userRepository.findUserByEmail("stranger@test.com")).thenReturn(Optional.of(stranger));
+        when(taskJdbcRepository.deleteIfPermitted(200L, 4L, false)).thenReturn(Optional.empty());
+        when(taskRepository.existsById(200L)).thenReturn(true);
 
         assertThrows(AccessDeniedException.class, () -> {
             taskService.deleteTask(200L);
         });
+    }
+
+    @Test
+    void deleteTask_missingTask_notFound() {
+        User owner = createUser(1L, "owner@test.com", "USER");
+        mockCurrentUser(owner);
+
+        when(taskJdbcRepository.deleteIfPermitted(200L, 1L, false)).thenReturn(Optional.empty());
+        when(taskRepository.existsById(200L)).thenReturn(false);
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> taskService.deleteTask(200L));
+        assertEquals(HttpStatus.NOT_FOUND, exception.getStatusCode());
+    }
+
+    @Test
+    void changeTaskStatus_byAssignedUser_success() {
+        User assigned = createUser(2L, "assigned@test.com", "USER");
+        mockCurrentUser(assigned);
+
+        when(taskJdbcRepository.updateStatusIfPermitted(100L, TaskStatus.REVIEW, 2L, false)).thenReturn(Optional.of(OPEN_TASK));
+
+        SimpleResponse response = taskService.changeTaskStatus(100L, TaskStatus.REVIEW);
 
-        verify(taskRepository, never()).delete((Task) any());
+        assertEquals("Status Successfully Changed!", response.getMessage());
+        verify(taskRepository, never()).save(any());
     }
 
+    @Test
+    void changeTaskStatus_byUnauthorizedUser_fail() {
+        User stranger = createUser(4L, "stranger@test.com", "USER");
+        mockCurrentUser(stranger);
+
+        when(taskJdbcRepository.updateStatusIfPermitted(100L, TaskStatus.REVIEW, 4L, false)).thenReturn(Optional.empty());
+        when(taskRepository.existsById(100L)).thenReturn(true);
+
+        assertThrows(AccessDeniedException.class, () -> taskService.changeTaskStatus(100L, TaskStatus.REVIEW));
+    }
+
+    @Test
+    void assignTask_missingStudent_notFound() {
+        User owner = createUser(1L, "owner@test.com", "USER");
+        mockCurrentUser(owner);
+
+        when(taskJdbcRepository.reassignIfPermitted(100L, 9L, 1L, false)).thenReturn(Optional.empty());
+        when(taskRepository.existsById(100L)).thenReturn(true);
+        when(userRepository.existsById(9L)).thenReturn(false);
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> taskService.assignTaskToAnotherPerson(100L, 9L));
+        assertEquals("Student not found", exception.getReason());
+    }
+
+    @Test
+    void changeTaskStatusBulk_byIds_reportsSkipped() {
+        User assigned = createUser(2L, "assigned@test.com", "USER");
+        mockCurrentUser(assigned);
+
+        BulkStatusRequest request = new BulkStatusRequest();
+        request.setStatus(TaskStatus.COMPLETED);
+        request.setIds(List.of(1L, 2L, 2L, 3L));
+        when(taskRepository.updateStatusInIfPermitted(List.of(1L, 2L, 3L), TaskStatus.COMPLETED, 2L, false)).thenReturn(2);
+
+        BulkUpdateResponse response = taskService.changeTaskStatusBulk(request);
+
+        assertEquals(2, response.getUpdated());
+        assertEquals(1, response.getSkipped());
+    }
+
+    @Test
+    void changeTaskStatusBulk_emptyFilter_badRequest() {
+        BulkStatusRequest request = new BulkStatusRequest();
+        request.setStatus(TaskStatus.COMPLETED);
+        request.setFilter(new TaskFilter());
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> taskService.changeTaskStatusBulk(request));
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void changeTaskStatusBulk_blankFilter_badRequest() {
+        TaskFilter filter = new TaskFilter();
+        filter.setCategory(" ");
+        filter.setCategoryPrefix("");
+        filter.setCategoryContains("\t");
+        BulkStatusRequest request = new BulkStatusRequest();
+        request.setStatus(TaskStatus.COMPLETED);
+        request.setFilter(filter);
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> taskService.changeTaskStatusBulk(request));
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        verifyNoInteractions(taskRepository, taskJdbcRepository);
+    }
+
+    @Test
+    void reassignTasks_missingTarget_notFound() {
+        BulkReassignRequest request = new BulkReassignRequest();
+        request.setFromUserId(2L);
+        request.setToUserId(9L);
+        when(userRepository.existsById(9L)).thenReturn(false);
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> taskService.reassignTasks(request));
+        assertEquals(HttpStatus.NOT_FOUND, exception.getStatusCode());
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void getTasks_estimateMode_usesEstimateWhileMorePagesExist() {
+        TaskFilter filter = new TaskFilter();
+        PageRequest pageable = PageRequest.of(2, 2);
+        User owner = createUser(1L, "owner@test.com", "USER");
+        List<Task> tasks = List.of(createTask(5L, owner, null), createTask(6L, owner, null));
+        when(taskRepository.findSlice(any(TaskSpecification.class), eq(pageable))).thenReturn(new SliceImpl<>(tasks, pageable, true));
+        when(taskCategoryService.matching(filter)).thenReturn(null);
+        when(taskJdbcRepository.estimateCount(filter, null)).thenReturn(500L);
+
+        Slice<TaskResponse> result = taskService.getTasks(filter, pageable, TaskPageMode.ESTIMATE);
+
+        assertInstanceOf(EstimatedPage.class, result);
+        assertEquals(500L, ((EstimatedPage<TaskResponse>) result).getTotalElements());
+        verify(taskRepository, never()).findAll(any(TaskSpecification.class), any(Pageable.class));
+    }
+
+    @Test
+    void getTasks_estimateMode_lastPageIsExact() {
+        TaskFilter filter = new TaskFilter();
+        PageRequest pageable = PageRequest.of(2, 2);
+        User owner = createUser(1L, "owner@test.com", "USER");
+        when(taskRepository.findSlice(any(TaskSpecification.class), eq(pageable)))
+                .thenReturn(new SliceImpl<>(List.of(createTask(5L, owner, null)), pageable, false));
+
+        Slice<TaskResponse> result = taskService.getTasks(filter, pageable, TaskPageMode.ESTIMATE);
+
+        assertEquals(5L, ((EstimatedPage<TaskResponse>) result).getTotalElements());
+        verifyNoInteractions(taskJdbcRepository);
+    }
+
+    @Test
+    void getTasks_withFields_readsProjectionAndSkipsCountOnShortFirstPage() {
+        TaskFilter filter = new TaskFilter();
+        PageRequest pageable = PageRequest.of(0, 10);
+        Set<TaskField> fields = EnumSet.of(TaskField.ID, TaskField.TITLE);
+        TaskResponse row = new TaskResponse(1L, "Title", null, null, null, null, null, null, null, null);
+        when(taskRepository.findProjected(any(TaskSpecification.class), eq(pageable.getSort()), eq(0L), eq(10), eq(fields)))
+                .thenReturn(List.of(row));
+
+        Slice<TaskResponse> result = taskService.getTasks(filter, pageable, TaskPageMode.PAGE, fields);
+
+        assertEquals(1L, ((Page<TaskResponse>) result).getTotalElements());
+        assertEquals("Title", result.getContent().get(0).getTitle());
+        verify(taskRepository, never()).count(any(TaskSpecification.class));
+        verify(taskRepository, never()).findAll(any(TaskSpecification.class), any(Pageable.class));
+    }
+
+    @Test
+    void getTask_isServedFromCacheUntilStatusChanges() {
+        User owner = createUser(2L, "owner@test.com", "USER");
+        mockCurrentUser(owner);
+        when(taskRepository.findById(100L)).thenReturn(Optional.of(createTask(100L, owner, owner)));
+        when(taskJdbcRepository.updateStatusIfPermitted(100L, TaskStatus.REVIEW, 2L, false)).thenReturn(Optional.of(OPEN_TASK));
+
+        taskService.getTask(100L);
+        taskService.getTask(100L);
+        verify(taskRepository, times(1)).findById(100L);
+
+        taskService.changeTaskStatus(100L, TaskStatus.REVIEW);
+        taskService.getTask(100L);
+        verify(taskRepository, times(2)).findById(100L);
+    }
+
+    @Test
+    void getTask_missingTask_isNotCached() {
+        when(taskRepository.findById(404L)).thenReturn(Optional.empty());
+
+        assertThrows(RuntimeException.class, () -> taskService.getTask(404L));
+        assertThrows(RuntimeException.class, () -> taskService.getTask(404L));
+
+        verify(taskRepository, times(2)).findById(404L);
+    }
+
+    @Test
+    void getTasks_firstPagesAreCachedUntilTheTeamChanges() {
+        User owner = createUser(2L, "owner@test.com", "USER");
+        mockCurrentUser(owner);
+        TaskFilter filter = new TaskFilter();
+        filter.setTeamId(7L);
+        filter.setStatus(TaskStatus.NEW);
+        PageRequest pageable = PageRequest.of(0, 2);
+        when(taskRepository.findSlice(any(TaskSpecification.class), eq(pageable)))
+                .thenReturn(new SliceImpl<>(List.of(createTask(5L, owner, null)), pageable, false));
+        when(taskJdbcRepository.updateStatusIfPermitted(anyLong(), eq(TaskStatus.REVIEW), eq(2L), eq(false))).thenReturn(
+                Optional.of(new TaskState(TaskStatus.NEW, 3, 8L, null, null)),
+                Optional.of(new TaskState(TaskStatus.NEW, 3, 7L, null, null)));
+
+        taskService.getTasks(filter, pageable, TaskPageMode.SLICE);
+        taskService.getTasks(filter, pageable, TaskPageMode.SLICE);
+        verify(taskRepository, times(1)).findSlice(any(TaskSpecification.class), eq(pageable));
+
+        // a change in another team keeps the entry
+        taskService.changeTaskStatus(6L, TaskStatus.REVIEW);
+        taskService.getTasks(filter, pageable, TaskPageMode.SLICE);
+        verify(taskRepository, times(1)).findSlice(any(TaskSpecification.class), eq(pageable));
+
+        taskService.changeTaskStatus(5L, TaskStatus.REVIEW);
+        taskService.getTasks(filter, pageable, TaskPageMode.SLICE);
+        verify(taskRepository, times(2)).findSlice(any(TaskSpecification.class), eq(pageable));
+    }
+
+    @Test
+    void getTasks_laterPagesAreNotCached() {
+        TaskFilter filter = new TaskFilter();
+        PageRequest pageable = PageRequest.of(2, 2);
+        when(taskRepository.findSlice(any(TaskSpecification.class), eq(pageable)))
+                .thenReturn(new SliceImpl<>(List.of(), pageable, false));
+
+        taskService.getTasks(filter, pageable, TaskPageMode.SLICE);
+        taskService.getTasks(filter, pageable, TaskPageMode.SLICE);
+
+        verify(taskRepository, times(2)).findSlice(any(TaskSpecification.class), eq(pageable));
+    }
 }
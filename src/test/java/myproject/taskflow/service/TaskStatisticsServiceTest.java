@@ -0,0 +1,103 @@
+package myproject.taskflow.service;
+
+import myproject.taskflow.dto.response.TaskStatisticsResponse;
+import myproject.taskflow.enums.TaskStatus;
+import myproject.taskflow.repositories.jdbc.TaskCounterJdbcRepository;
+import myproject.taskflow.repositories.jpa.TaskState;
+import myproject.taskflow.service.impl.TaskStatisticsServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskStatisticsServiceTest {
+
+    @Mock
+    private TaskCounterJdbcRepository taskCounterJdbcRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TaskStatisticsServiceImpl taskStatisticsService;
+
+    @BeforeEach
+    void setUp() {
+        taskStatisticsService = new TaskStatisticsServiceImpl(taskCounterJdbcRepository, new TransactionTemplate(transactionManager));
+    }
+
+    @Test
+    void taskChanged_shouldMoveOpenTasksBetweenBuckets() {
+        TaskState created = new TaskState(TaskStatus.NEW, 2, 7L, 3L, null);
+        taskStatisticsService.taskChanged(null, created);
+        taskStatisticsService.taskChanged(null, new TaskState(TaskStatus.NEW, 2, 7L, null, null));
+        taskStatisticsService.taskChanged(created, created.withAssignee(4L));
+
+        TaskStatisticsResponse statistics = taskStatisticsService.getStatistics();
+        assertEquals(2L, statistics.getByStatus().get(TaskStatus.NEW));
+        assertEquals(0L, statistics.getByStatus().get(TaskStatus.COMPLETED));
+        assertEquals(Map.of(2, 2L), statistics.getOpenByPriority());
+        assertEquals(Map.of(7L, 2L), statistics.getOpenByTeam());
+        assertEquals(Map.of(4L, 1L), statistics.getOpenByAssignee());
+    }
+
+    @Test
+    void taskChanged_shouldDropClosedTasksFromOpenBuckets() {
+        TaskState open = new TaskState(TaskStatus.IN_PROGRESS, 1, 7L, 3L, null);
+        taskStatisticsService.taskChanged(null, open);
+        taskStatisticsService.taskChanged(open, open.withStatus(TaskStatus.COMPLETED));
+
+        TaskStatisticsResponse statistics = taskStatisticsService.getStatistics();
+        assertEquals(0L, statistics.getByStatus().get(TaskStatus.IN_PROGRESS));
+        assertEquals(1L, statistics.getByStatus().get(TaskStatus.COMPLETED));
+        assertTrue(statistics.getOpenByPriority().isEmpty());
+        assertTrue(statistics.getOpenByAssignee().isEmpty());
+    }
+
+    @Test
+    void reconcile_shouldCorrectDriftAndStoreRollup() {
+        taskStatisticsService.taskChanged(null, new TaskState(TaskStatus.NEW, 2, null, 3L, null));
+        when(taskCounterJdbcRepository.countByStatus()).thenReturn(Map.of("NEW", 5L, "COMPLETED", 2L));
+        when(taskCounterJdbcRepository.countOpenByPriority()).thenReturn(Map.of("1", 5L));
+        when(taskCounterJdbcRepository.countOpenByTeam()).thenReturn(Map.of());
+        when(taskCounterJdbcRepository.countOpenByAssignee()).thenReturn(Map.of("9", 5L));
+
+        taskStatisticsService.reconcile();
+
+        TaskStatisticsResponse statistics = taskStatisticsService.getStatistics();
+        assertEquals(5L, statistics.getByStatus().get(TaskStatus.NEW));
+        assertEquals(2L, statistics.getByStatus().get(TaskStatus.COMPLETED));
+        assertEquals(Map.of(1, 5L), statistics.getOpenByPriority());
+        assertEquals(Map.of(9L, 5L), statistics.getOpenByAssignee());
+        assertNotNull(statistics.getReconciledAt());
+        verify(taskCounterJdbcRepository).replaceRollup(Map.of(
+                "status:NEW", 5L, "status:COMPLETED", 2L, "priority:1", 5L, "assignee:9", 5L));
+    }
+
+    @Test
+    void reconcileIfDue_shouldRetryAfterAFailedRecount() {
+        ReflectionTestUtils.setField(taskStatisticsService, "reconcileInterval", Duration.ofHours(1));
+        when(taskCounterJdbcRepository.countByStatus())
+                .thenReturn(Map.of())
+                .thenThrow(new DataAccessResourceFailureException("database down"))
+                .thenReturn(Map.of("NEW", 1L));
+        taskStatisticsService.reconcileIfDue();
+        taskStatisticsService.markStale();
+
+        assertThrows(DataAccessResourceFailureException.class, () -> taskStatisticsService.reconcileIfDue());
+        taskStatisticsService.reconcileIfDue();
+
+        verify(taskCounterJdbcRepository, times(3)).countByStatus();
+        assertEquals(1L, taskStatisticsService.getStatistics().getByStatus().get(TaskStatus.NEW));
+    }
+}
@@ -1,6 +1,7 @@
 package myproject.taskflow.service;
 
 
+import myproject.taskflow.config.security.CurrentUser;
 import myproject.taskflow.dto.request.TeamRequest;
 import myproject.taskflow.dto.request.TeamUpdateRequest;
 import myproject.taskflow.dto.response.SimpleResponse;
@@ -19,12 +20,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContext;
-import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -48,6 +45,10 @@ public class TeamServiceTest {
     private TeamMemberRepository teamMemberRepository;
     @Mock
     private TaskRepository taskRepository;
+    @Mock
+    private CurrentUser currentUser;
+    @Mock
+    private OutboxService outboxService;
 
     @InjectMocks
     private TeamServiceImpl teamService;
@@ -69,25 +70,16 @@ public class TeamServiceTest {
         return team;
     }
 
-    // Мокаем SecurityContext для возвращения email текущего пользователя
-    private void mockSecurityContext(String email) {
-        Authentication auth = Mockito.mock(Authentication.class);
-        when(auth.getName()).thenReturn(email);
-        SecurityContext securityContext = Mockito.mock(SecurityContext.class);
-        when(securityContext.getAuthentication()).thenReturn(auth);
-        SecurityContextHolder.setContext(securityContext);
-    }
-
     @Test
     void createTeam_success() {
         User user = createUser(1L, "user@test.com", "nick");
-        mockSecurityContext("user@test.com");
+        when(currentUser.getId()).thenReturn(1L);
 
         TeamRequest request = new TeamRequest();
         request.setName("MyTeam");
         request.setDescription("Desc");
 
-        when(userRepository.findUserByEmail("user@test.com")).thenReturn(Optional.of(user));
+        when(userRepository.getReferenceById(1L)).thenReturn(user);
 
         Team savedTeam = createTeam(10L, user);
         savedTeam.setName(request.getName());
@@ -133,7 +125,7 @@ public class TeamServiceTest {
         updateRequest.setName("UpdatedName");
         updateRequest.setDescription("UpdatedDesc");
 
-        when(teamRepository.findById(5L)).thenReturn(Optional.of(team));
+        when(teamRepository.findByIdForUpdate(5L)).thenReturn(Optional.of(team));
         when(teamRepository.save(team)).thenReturn(team);
 
         SimpleResponse resp = teamService.updateTeam(5L, updateRequest);
@@ -147,7 +139,7 @@ public class TeamServiceTest {
 
     @Test
     void updateTeam_notFound() {
-        when(teamRepository.findById(1L)).thenReturn(Optional.empty());
+        when(teamRepository.findByIdForUpdate(1L)).thenReturn(Optional.empty());
 
         TeamUpdateRequest updateRequest = new TeamUpdateRequest();
         assertThrows(RuntimeException.class, () -> teamService.updateTeam(1L, updateRequest));
@@ -156,7 +148,7 @@ public class TeamServiceTest {
     @Test
     void deleteTeam_success() {
         Team team = createTeam(3L, createUser(1L, "creator@test.com", "nick"));
-        when(teamRepository.findById(3L)).thenReturn(Optional.of(team));
+        when(teamRepository.findByIdForUpdate(3L)).thenReturn(Optional.of(team));
 
         SimpleResponse resp = teamService.deleteTeam(3L);
 
@@ -168,7 +160,7 @@ public class TeamServiceTest {
 
     @Test
     void deleteTeam_notFound() {
-        when(teamRepository.findById(10L)).thenReturn(Optional.empty());
+        when(teamRepository.findByIdForUpdate(10L)).thenReturn(Optional.empty());
         assertThrows(RuntimeException.class, () -> teamService.deleteTeam(10L));
     }
 
@@ -176,7 +168,7 @@ public class TeamServiceTest {
     void addMemberToTeam_success() {
         Team team = createTeam(7L, createUser(1L, "creator@test.com", "nick"));
         User user = createUser(4L, "member@test.com", "memberNick");
-        when(teamRepository.findById(7L)).thenReturn(Optional.of(team));
+        when(teamRepository.findByIdForUpdate(7L)).thenReturn(Optional.of(team));
         when(userRepository.findById(4L)).thenReturn(Optional.of(user));
 
         SimpleResponse resp = teamService.addMemberToTeam(7L, 4L);
@@ -189,14 +181,14 @@ public class TeamServiceTest {
 
     @Test
     void addMemberToTeam_teamNotFound() {
-        when(teamRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(teamRepository.findByIdForUpdate(anyLong())).thenReturn(Optional.empty());
         assertThrows(RuntimeException.class, () -> teamService.addMemberToTeam(1L, 1L));
     }
 
     @Test
     void addMemberToTeam_userNotFound() {
         Team team = createTeam(7L, createUser(1L, "creator@test.com", "nick"));
-        when(teamRepository.findById(7L)).thenReturn(Optional.of(team));
+        when(teamRepository.findByIdForUpdate(7L)).thenReturn(Optional.of(team));
         when(userRepository.findById(anyLong())).thenReturn(Optional.empty());
 
         assertThrows(RuntimeException.class, () -> teamService.addMemberToTeam(7L, 99L));
@@ -210,7 +202,7 @@ public class TeamServiceTest {
         teamMember.setTeam(team);
         teamMember.setUser(user);
 
-        when(teamRepository.findById(8L)).thenReturn(Optional.of(team));
+        when(teamRepository.findByIdForUpdate(8L)).thenReturn(Optional.of(team));
         when(userRepository.findById(5L)).thenReturn(Optional.of(user));
         when(teamMemberRepository.findByTeamIdAndUserId(8L, 5L)).thenReturn(Optional.of(teamMember));
 
@@ -224,14 +216,14 @@ public class TeamServiceTest {
 
     @Test
     void removeMemberFromTeam_teamNotFound() {
-        when(teamRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(teamRepository.findByIdForUpdate(anyLong())).thenReturn(Optional.empty());
         assertThrows(RuntimeException.class, () -> teamService.removeMemberFromTeam(1L, 1L));
     }
 
     @Test
     void removeMemberFromTeam_userNotFound() {
         Team team = createTeam(8L, createUser(1L, "creator@test.com", "nick"));
-        when(teamRepository.findById(8L)).thenReturn(Optional.of(team));
+        when(teamRepository.findByIdForUpdate(8L)).thenReturn(Optional.of(team));
         when(userRepository.findById(anyLong())).thenReturn(Optional.empty());
 
         assertThrows(RuntimeException.class, () -> teamService.removeMemberFromTeam(8L, 99L));
@@ -242,7 +234,7 @@ public class TeamServiceTest {
         Team team = createTeam(8L, createUser(1L, "creator@test.com", "nick"));
         User user = createUser(5L, "user@test.com", "userNick");
 
-        when(teamRepository.findById(8L)).thenReturn(Optional.of(team));
+        when(teamRepository.findByIdForUpdate(8L)).thenReturn(Optional.of(team));
         when(userRepository.findById(5L)).thenReturn(Optional.of(user));
         when(teamMemberRepository.findByTeamIdAndUserId(8L, 5L)).thenReturn(Optional.empty());
 
@@ -1,5 +1,7 @@
 package myproject.taskflow.service;
 
+import myproject.taskflow.config.jwt.PrincipalInvalidationCache;
+import myproject.taskflow.config.security.CurrentUser;
 import myproject.taskflow.dto.request.UserUpdateRequest;
 import myproject.taskflow.dto.response.SimpleResponse;
 import myproject.taskflow.dto.response.UserDetailResponse;
@@ -14,12 +16,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContext;
-import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -45,17 +43,15 @@ public class UserServiceTest {
     @Mock
     private TeamMemberRepository teamMemberRepository;
 
+    @Mock
+    private PrincipalInvalidationCache principalInvalidationCache;
+
+    @Mock
+    private CurrentUser currentUser;
+
     @InjectMocks
     private UserServiceImpl userService;
 
-    private void mockSecurityContext(String email) {
-        Authentication auth = Mockito.mock(Authentication.class);
-        when(auth.getName()).thenReturn(email);
-        SecurityContext securityContext = Mockito.mock(SecurityContext.class);
-        when(securityContext.getAuthentication()).thenReturn(auth);
-        SecurityContextHolder.setContext(securityContext);
-    }
-
     @Test
     void getAllUsers_returnsList() {
         List<UserSummaryResponse> mockList = List.of(
@@ -92,30 +88,31 @@ public class UserServiceTest {
         String email = "user@test.com";
         UserUpdateRequest req = new UserUpdateRequest("nick", "First", "Last","email");
 
-        User currentUser = new User();
-        currentUser.setEmail(email);
+        User user = new User();
+        user.setId(1L);
+        user.setEmail(email);
 
-        mockSecurityContext(email);
-        when(userRepository.findUserByEmail(email)).thenReturn(Optional.of(currentUser));
+        when(currentUser.getId()).thenReturn(1L);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
         when(userRepository.save(any(User.class))).thenAnswer(i -> i.getArgument(0));
 
         SimpleResponse response = userService.updateOwnProfile(req);
 
         assertEquals("Profile updated!", response.getMessage());
         assertEquals(HttpStatus.OK, response.getStatus());
-        verify(userRepository).save(currentUser);
-        assertEquals("nick", currentUser.getNickname());
-        assertEquals("First", currentUser.getFirstName());
-        assertEquals("Last", currentUser.getLastName());
+        verify(userRepository).save(user);
+        assertEquals("nick", user.getNickname());
+        assertEquals("First", user.getFirstName());
+        assertEquals("Last", user.getLastName());
+        assertEquals(email, user.getEmail());
     }
 
     @Test
     void updateOwnProfile_userNotFound_throws() {
-        String email = "user@test.com";
         UserUpdateRequest req = new UserUpdateRequest("nick", "First", "Last","email");
 
-        mockSecurityContext(email);
-        when(userRepository.findUserByEmail(email)).thenReturn(Optional.empty());
+        when(currentUser.getId()).thenReturn(1L);
+        when(userRepository.findById(1L)).thenReturn(Optional.empty());
 
         assertThrows(RuntimeException.class, () -> userService.updateOwnProfile(req));
     }
@@ -135,6 +132,7 @@ public class UserServiceTest {
         verify(refreshTokenRepository).deleteByUserId(1L);
         verify(teamMemberRepository).deleteByUserId(1L);
         verify(userRepository).delete(user);
+        verify(principalInvalidationCache).invalidate(1L);
     }
 
     @Test